@@ -0,0 +1,127 @@
+package dtm.stools.benchmarks;
+
+import dtm.stools.component.grids.annotations.GridColumn;
+import dtm.stools.component.grids.model.ColumnDefinition;
+import dtm.stools.component.grids.model.ReflectionTableModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leitura das células de uma grade com os acessores gerados das colunas, comparada a {@link Field#get(Object)}.
+ *
+ * <p>{@link #generatedAccessors} lê pelos acessores de {@link ColumnDefinition}, ligados ao getter quando existe
+ * ou ao campo por {@code MethodHandle}; {@link #fieldGet} é a leitura por reflexão usada antes. {@link #getValueAt}
+ * mede o caminho completo do {@link ReflectionTableModel}, incluindo o cache das células. Os resultados são por célula.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ColumnAccessorBenchmark {
+
+    private static final int ROWS = 1000;
+    private static final int COLUMNS = 4;
+    private static final int CELLS = ROWS * COLUMNS;
+
+    private List<Row> rows;
+    private ReflectionTableModel<Row> model;
+    private ColumnDefinition[] definitions;
+    private Field[] fields;
+
+    @Setup
+    public void prepare() {
+        rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Row(i, "row" + i, i * 1.5, i % 2 == 0));
+        }
+        model = new ReflectionTableModel<>(rows, Row.class, () -> false);
+
+        definitions = new ColumnDefinition[COLUMNS];
+        fields = new Field[COLUMNS];
+        for (int column = 0; column < COLUMNS; column++) {
+            definitions[column] = model.getColumnDefinition(column);
+            fields[column] = model.getFieldForColumn(column);
+            fields[column].setAccessible(true);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CELLS)
+    public void generatedAccessors(Blackhole blackhole) {
+        for (Row row : rows) {
+            for (ColumnDefinition definition : definitions) {
+                blackhole.consume(definition.getValue(row));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CELLS)
+    public void fieldGet(Blackhole blackhole) throws IllegalAccessException {
+        for (Row row : rows) {
+            for (Field field : fields) {
+                blackhole.consume(field.get(row));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CELLS)
+    public void getValueAt(Blackhole blackhole) {
+        for (int row = 0; row < ROWS; row++) {
+            for (int column = 0; column < COLUMNS; column++) {
+                blackhole.consume(model.getValueAt(row, column));
+            }
+        }
+    }
+
+    /**
+     * Linha com colunas lidas por getter ({@code id}, {@code name}, {@code active}) e uma sem getter ({@code amount}).
+     */
+    public static class Row {
+        @GridColumn(order = 0)
+        private final int id;
+        @GridColumn(order = 1)
+        private final String name;
+        @GridColumn(order = 2)
+        private final double amount;
+        @GridColumn(order = 3)
+        private final boolean active;
+
+        public Row(int id, String name, double amount, boolean active) {
+            this.id = id;
+            this.name = name;
+            this.amount = amount;
+            this.active = active;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package dtm.stools.benchmarks;
+
+import dtm.stools.context.IWindow;
+import dtm.stools.context.annotations.ClientRef;
+import dtm.stools.context.annotations.ViewRef;
+import dtm.stools.controllers.BindingAbstractController;
+import dtm.stools.exceptions.FieldBindingInjectionTypeException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.*;
+import java.awt.Component;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tempo de {@code onInit} de um controller com 30 campos {@code @ViewRef}/{@code @ClientRef}: o binding pelo
+ * {@code BindingPlan} em cache, usado pelo {@link BindingAbstractController}, comparado ao binding anterior, que
+ * criava um executor de threads virtuais e um {@link CompletableFuture} por campo declarado e resolvia cada campo
+ * por reflexão.
+ *
+ * <p>A janela é um {@link IWindow} em memória com os componentes já indexados, para que a medição inclua apenas o
+ * binding e não a carga do DOM.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ControllerInitBenchmark {
+
+    private StubWindow window;
+
+    @Setup
+    public void prepare() {
+        window = new StubWindow();
+        for (int i = 0; i < 24; i++) {
+            window.components.put("campo" + i, new JLabel("campo " + i));
+        }
+        for (int i = 0; i < 6; i++) {
+            window.client.put("valor" + i, "valor " + i);
+        }
+    }
+
+    @Benchmark
+    public FormController bindingPlan() {
+        FormController controller = new FormController();
+        controller.onInit(window);
+        return controller;
+    }
+
+    @Benchmark
+    public FormController perFieldFutures() {
+        FormController controller = new FormController();
+        LegacyBinding.bind(controller, window);
+        return controller;
+    }
+
+    /**
+     * Controller com 24 campos de componente e 6 valores do cliente.
+     */
+    public static class FormController extends BindingAbstractController<IWindow> {
+        @ViewRef("campo0")
+        private JLabel campo0;
+        @ViewRef("campo1")
+        private JLabel campo1;
+        @ViewRef("campo2")
+        private JLabel campo2;
+        @ViewRef("campo3")
+        private JLabel campo3;
+        @ViewRef("campo4")
+        private JLabel campo4;
+        @ViewRef("campo5")
+        private JLabel campo5;
+        @ViewRef("campo6")
+        private JLabel campo6;
+        @ViewRef("campo7")
+        private JLabel campo7;
+        @ViewRef("campo8")
+        private JLabel campo8;
+        @ViewRef("campo9")
+        private JLabel campo9;
+        @ViewRef("campo10")
+        private JLabel campo10;
+        @ViewRef("campo11")
+        private JLabel campo11;
+        @ViewRef("campo12")
+        private JLabel campo12;
+        @ViewRef("campo13")
+        private JLabel campo13;
+        @ViewRef("campo14")
+        private JLabel campo14;
+        @ViewRef("campo15")
+        private JLabel campo15;
+        @ViewRef("campo16")
+        private JLabel campo16;
+        @ViewRef("campo17")
+        private JLabel campo17;
+        @ViewRef("campo18")
+        private JLabel campo18;
+        @ViewRef("campo19")
+        private JLabel campo19;
+        @ViewRef("campo20")
+        private JLabel campo20;
+        @ViewRef("campo21")
+        private JLabel campo21;
+        @ViewRef("campo22")
+        private JLabel campo22;
+        @ViewRef("campo23")
+        private JLabel campo23;
+        @ClientRef("valor0")
+        private String valor0;
+        @ClientRef("valor1")
+        private String valor1;
+        @ClientRef("valor2")
+        private String valor2;
+        @ClientRef("valor3")
+        private String valor3;
+        @ClientRef("valor4")
+        private String valor4;
+        @ClientRef("valor5")
+        private String valor5;
+    }
+
+    /**
+     * Binding por campo em threads virtuais, como era feito pelo {@code BindingAbstractController} antes do plano em cache.
+     */
+    private static final class LegacyBinding {
+
+        static void bind(Object controller, IWindow window) {
+            List<CompletableFuture<?>> tasks = new ArrayList<>();
+            try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+                Class<?> clazz = controller.getClass();
+                while (clazz != null && clazz != Object.class) {
+                    for (Field field : clazz.getDeclaredFields()) {
+                        tasks.add(CompletableFuture.runAsync(() -> bindField(controller, window, field), executorService));
+                    }
+                    clazz = clazz.getSuperclass();
+                }
+                CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+            } catch (CompletionException ce) {
+                Throwable cause = ce.getCause();
+                if (cause instanceof RuntimeException re) throw re;
+                throw new RuntimeException("Erro no binding dos campos", cause);
+            }
+        }
+
+        private static void bindField(Object controller, IWindow window, Field field) {
+            int mods = field.getModifiers();
+            if (Modifier.isStatic(mods) || Modifier.isTransient(mods)) return;
+
+            if (field.isAnnotationPresent(ViewRef.class)) {
+                String refName = refName(field.getAnnotation(ViewRef.class).value(), field);
+                setField(controller, field, window.findById(refName));
+            } else if (field.isAnnotationPresent(ClientRef.class)) {
+                String refName = refName(field.getAnnotation(ClientRef.class).value(), field);
+                setField(controller, field, window.getFromClient(refName, null));
+            }
+        }
+
+        private static String refName(String value, Field field) {
+            return (value != null && !value.isEmpty()) ? value : field.getName();
+        }
+
+        private static void setField(Object controller, Field field, Object value) {
+            try {
+                if (!field.canAccess(controller)) field.setAccessible(true);
+                if (value != null && !field.getType().isAssignableFrom(value.getClass())) {
+                    throw new FieldBindingInjectionTypeException(field.getName(), field.getType(), value.getClass(), value);
+                }
+                field.set(controller, value);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException("Falha de acesso ao campo '" + field.getName() + "'", e);
+            }
+        }
+    }
+
+    /**
+     * Janela em memória: componentes por ID e valores do cliente em mapas simples.
+     */
+    private static final class StubWindow implements IWindow {
+        private final Map<String, Component> components = new HashMap<>();
+        private final Map<String, Object> client = new HashMap<>();
+
+        @Override
+        public void init() {}
+
+        @Override
+        public void dispose() {}
+
+        @Override
+        public boolean isDisplayable() {
+            return false;
+        }
+
+        @Override
+        public void setVisible(boolean visibility) {}
+
+        @Override
+        public boolean putInClient(String key, Object value) {
+            return putInClient(key, value, true);
+        }
+
+        @Override
+        public boolean putInClient(String key, Object value, boolean replace) {
+            if (!replace && client.containsKey(key)) return false;
+            client.put(key, value);
+            return true;
+        }
+
+        @Override
+        public <T> T getFromClient(String key) {
+            return getFromClient(key, null);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T getFromClient(String key, T defaultValue) {
+            return (T) client.getOrDefault(key, defaultValue);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T extends Component> T findById(String id) {
+            return (T) components.get(id);
+        }
+
+        @Override
+        public void reloadDomElements() {}
+    }
+}
@@ -0,0 +1,102 @@
+package dtm.stools.benchmarks;
+
+import dtm.stools.context.DomIndexContext;
+import dtm.stools.internal.DomComponentElementLoaderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de manter o índice do DOM durante adições incrementais em massa (por exemplo linhas criadas
+ * dinamicamente), comparado à carga completa da mesma árvore.
+ *
+ * <p>Com um índice que copia o snapshot inteiro a cada alteração o tempo de {@link #incrementalAdds} cresce de
+ * forma quadrática com {@code count}; o esperado é que cresça de forma linear, na mesma ordem de {@link #fullLoad}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class IncrementalIndexBenchmark {
+
+    @Param({"1000", "8000"})
+    public int count;
+
+    @Param({"all", "named"})
+    public String filter;
+
+    private ExecutorService executor;
+    private JPanel root;
+    private JPanel filled;
+    private DomComponentElementLoaderService<JPanel> loader;
+
+    @Setup(Level.Trial)
+    public void configure() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        if ("all".equals(filter)) DomIndexContext.indexAllPanelComponents();
+        else DomIndexContext.indexNamedOnly();
+    }
+
+    @Setup(Level.Iteration)
+    public void prepare() throws Exception {
+        root = new JPanel();
+        loader = new DomComponentElementLoaderService<>(root, executor);
+        SwingUtilities.invokeAndWait(() -> {
+            loader.load();
+            loader.completeLoad();
+        });
+
+        filled = new JPanel();
+        for (int i = 0; i < count; i++) {
+            filled.add(row(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int incrementalAdds() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            for (int i = 0; i < count; i++) {
+                root.add(row(i));
+            }
+        });
+        return loader.getElementsByType(JLabel.class).length;
+    }
+
+    @Benchmark
+    public int fullLoad() throws Exception {
+        DomComponentElementLoaderService<JPanel> fullLoader = new DomComponentElementLoaderService<>(filled, executor);
+        SwingUtilities.invokeAndWait(() -> {
+            fullLoader.load();
+            fullLoader.completeLoad();
+        });
+        return fullLoader.getElementsByType(JLabel.class).length;
+    }
+
+    private static JLabel row(int i) {
+        JLabel label = new JLabel();
+        if (i % 2 == 0) label.setName("row" + i);
+        return label;
+    }
+}
@@ -0,0 +1,91 @@
+package dtm.stools.benchmarks;
+
+import dtm.stools.context.DomIndexContext;
+import dtm.stools.context.enums.DomTraversalStrategy;
+import dtm.stools.internal.DomComponentElementLoaderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carga completa do índice do DOM com cada {@link DomTraversalStrategy}, em árvores estreitas e largas.
+ *
+ * <p>O {@link DomTraversalStrategy#PARALLEL} cria uma tarefa por filho direto da raiz e paga o custo de agendar as
+ * tarefas e juntar os resultados na montagem do índice, que continua sequencial; a comparação mostra a partir de
+ * que largura e tamanho de árvore isso compensa em relação ao percurso sequencial. Cada medição é um {@code reload()} do mesmo carregador,
+ * para que os listeners instalados na árvore não se acumulem entre as chamadas.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class TraversalStrategyBenchmark {
+
+    @Param({"SEQUENTIAL", "PARALLEL"})
+    public DomTraversalStrategy strategy;
+
+    @Param({"4", "64"})
+    public int width;
+
+    @Param({"1000", "10000", "50000"})
+    public int count;
+
+    private ExecutorService executor;
+    private JPanel root;
+    private DomComponentElementLoaderService<JPanel> loader;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        DomIndexContext.indexAllPanelComponents();
+        DomIndexContext.setSharedPanelIndex(false);
+        DomIndexContext.setTraversalStrategy(strategy);
+
+        root = new JPanel();
+        int perBranch = Math.max(1, count / width);
+        for (int branch = 0; branch < width; branch++) {
+            JPanel section = new JPanel();
+            for (int i = 0; i < perBranch; i++) {
+                JLabel label = new JLabel();
+                if (i % 2 == 0) label.setName("label" + branch + "_" + i);
+                section.add(label);
+            }
+            root.add(section);
+        }
+
+        loader = new DomComponentElementLoaderService<>(root, executor);
+        loader.load();
+        loader.completeLoad();
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        DomIndexContext.setTraversalStrategy(DomTraversalStrategy.SEQUENTIAL);
+        DomIndexContext.setSharedPanelIndex(true);
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int fullLoad() {
+        loader.reload();
+        loader.completeLoad();
+        return loader.getElementsByType(JLabel.class).length;
+    }
+}
@@ -0,0 +1,115 @@
+package dtm.stools.benchmarks;
+
+import dtm.stools.context.WindowExecutorContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abertura de várias janelas com o executor antigo, um {@code newFixedThreadPool} por janela, e com os executores
+ * compartilhados de threads virtuais e de {@code ForkJoinPool} do {@link WindowExecutorContext}.
+ *
+ * <p>Cada "janela" cria o seu executor e constrói em paralelo algumas seções de componentes fora da EDT, como no
+ * {@code onDrawing()}, sem criar o {@code JFrame}, que não existe em modo headless. O tempo medido é o da abertura de
+ * todas as janelas; o maior número de threads de plataforma vivas logo após a abertura é impresso no fim de cada
+ * trial, já descontadas as threads que existiam antes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class WindowExecutorBenchmark {
+
+    private static final int PROCESSORS = Runtime.getRuntime().availableProcessors();
+    private static final int SECTIONS = 8;
+    private static final int COMPONENTS_PER_SECTION = 25;
+
+    @Param({"fixed", "virtual", "forkjoin"})
+    public String executor;
+
+    @Param({"40"})
+    public int windows;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final List<ExecutorService> opened = new ArrayList<>();
+    private int baselineThreads;
+    private int peakThreads;
+
+    @Setup(Level.Trial)
+    public void configure() {
+        if ("forkjoin".equals(executor)) WindowExecutorContext.useBoundedPool(PROCESSORS);
+        else WindowExecutorContext.useVirtualThreads();
+        baselineThreads = threads.getThreadCount();
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeWindows() throws InterruptedException {
+        for (ExecutorService service : opened) {
+            service.shutdownNow();
+        }
+        for (ExecutorService service : opened) {
+            service.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        opened.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        WindowExecutorContext.shutdown();
+        System.out.printf("%n%s: %d janelas, até %d threads de plataforma além das %d iniciais%n",
+                executor, windows, peakThreads, baselineThreads);
+    }
+
+    @Benchmark
+    public int openWindows() {
+        List<CompletableFuture<JPanel>> sections = new ArrayList<>(windows * SECTIONS);
+        for (int window = 0; window < windows; window++) {
+            ExecutorService service = "fixed".equals(executor)
+                    ? Executors.newFixedThreadPool(PROCESSORS)
+                    : WindowExecutorContext.newWindowExecutor();
+            opened.add(service);
+            for (int section = 0; section < SECTIONS; section++) {
+                sections.add(CompletableFuture.supplyAsync(WindowExecutorBenchmark::buildSection, service));
+            }
+        }
+
+        int components = 0;
+        for (CompletableFuture<JPanel> section : sections) {
+            components += section.join().getComponentCount();
+        }
+        peakThreads = Math.max(peakThreads, threads.getThreadCount() - baselineThreads);
+        return components;
+    }
+
+    private static JPanel buildSection() {
+        JPanel panel = new JPanel();
+        for (int i = 0; i < COMPONENTS_PER_SECTION; i++) {
+            JLabel label = new JLabel("campo " + i);
+            label.setName("campo" + i);
+            panel.add(label);
+        }
+        return panel;
+    }
+}
@@ -0,0 +1,331 @@
+package dtm.stools.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Gera, para cada controller com campos {@code @ViewRef} ou {@code @ClientRef} (declarados na própria classe
+ * ou herdados), uma classe {@code <controller>$$Binder} no mesmo pacote que implementa
+ * {@code dtm.stools.context.ControllerBinder} e atribui os campos diretamente.
+ *
+ * <p>Campos {@code Ref<T>} recebem uma referência resolvida no primeiro acesso e campos {@code @ViewRef(lazy = true)}
+ * são preenchidos quando o componente é anexado ao índice do DOM.
+ *
+ * <p>Os tipos dos campos {@code @ViewRef} são verificados na compilação e campos {@code @ClientRef} primitivos são
+ * rejeitados, já que o valor ausente do cliente é {@code null}. Na execução, valores de tipo incompatível lançam
+ * {@code FieldBindingInjectionTypeException}, como no binding por reflexão. Classes cujos campos não podem ser
+ * atribuídos a partir do pacote do controller (campos {@code private} ou {@code final}, ou herdados de classes
+ * de outro pacote sem acesso público) não recebem injetor e continuam usando o binding por reflexão.
+ */
+@SupportedAnnotationTypes({ControllerBinderProcessor.VIEW_REF, ControllerBinderProcessor.CLIENT_REF})
+public class ControllerBinderProcessor extends AbstractProcessor {
+
+    static final String VIEW_REF = "dtm.stools.context.annotations.ViewRef";
+    static final String CLIENT_REF = "dtm.stools.context.annotations.ClientRef";
+
+    private static final String BINDER_SUFFIX = "$$Binder";
+    private static final String COMPONENT = "java.awt.Component";
+    private static final String REF = "dtm.stools.context.Ref";
+
+    private final Set<String> generated = new HashSet<>();
+
+    private Elements elements;
+    private Types types;
+    private Filer filer;
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (annotations.isEmpty()) return false;
+
+        List<TypeElement> candidates = new ArrayList<>();
+        collectTypes(roundEnv.getRootElements(), candidates);
+
+        for (TypeElement type : candidates) {
+            String binaryName = elements.getBinaryName(type).toString();
+            if (generated.contains(binaryName)) continue;
+
+            List<BoundField> fields = boundFields(type);
+            if (fields.isEmpty() || !isBindable(type, fields)) continue;
+
+            generated.add(binaryName);
+            write(type, binaryName, fields);
+        }
+        return false;
+    }
+
+    private void collectTypes(Iterable<? extends Element> roots, List<TypeElement> result) {
+        for (TypeElement type : ElementFilter.typesIn(roots)) {
+            if (type.getKind() == ElementKind.CLASS) result.add(type);
+            collectTypes(type.getEnclosedElements(), result);
+        }
+    }
+
+    private List<BoundField> boundFields(TypeElement type) {
+        List<BoundField> fields = new ArrayList<>();
+        for (TypeElement current = type; current != null; current = superclassOf(current)) {
+            if (current.getQualifiedName().contentEquals("java.lang.Object")) break;
+
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                Set<Modifier> mods = field.getModifiers();
+                if (mods.contains(Modifier.STATIC) || mods.contains(Modifier.TRANSIENT)) continue;
+
+                AnnotationMirror viewRef = annotation(field, VIEW_REF);
+                if (viewRef != null) {
+                    Mode mode = isRef(field.asType()) ? Mode.REF : Boolean.TRUE.equals(value(viewRef, "lazy")) ? Mode.LAZY_VIEW : Mode.VIEW;
+                    fields.add(new BoundField(current, field, refName(viewRef, field), mode));
+                    continue;
+                }
+
+                AnnotationMirror clientRef = annotation(field, CLIENT_REF);
+                if (clientRef != null) {
+                    if (current == type && field.asType().getKind().isPrimitive()) {
+                        messager.printMessage(Diagnostic.Kind.ERROR,
+                                "Campo @ClientRef '" + field.getSimpleName() + "' não pode ser primitivo; use o tipo wrapper", field);
+                    }
+                    fields.add(new BoundField(current, field, refName(clientRef, field), Mode.CLIENT));
+                }
+            }
+        }
+        return fields;
+    }
+
+    private boolean isBindable(TypeElement type, List<BoundField> fields) {
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL && type.getNestingKind() != NestingKind.MEMBER) return false;
+
+        PackageElement binderPackage = elements.getPackageOf(type);
+        if (!isAccessible(type, binderPackage)) {
+            note(type, "classe não acessível a partir do pacote");
+            return false;
+        }
+
+        boolean valid = true;
+        for (BoundField bound : fields) {
+            if (bound.mode != Mode.CLIENT && !isComponentCompatible(bound.componentType())) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "Campo @ViewRef '" + bound.field.getSimpleName() + "' deve ser de um tipo compatível com " + COMPONENT,
+                        bound.field);
+                valid = false;
+                continue;
+            }
+
+            Set<Modifier> mods = bound.field.getModifiers();
+            boolean samePackage = elements.getPackageOf(bound.owner).equals(binderPackage);
+            if (mods.contains(Modifier.PRIVATE) || mods.contains(Modifier.FINAL)
+                    || (!samePackage && !mods.contains(Modifier.PUBLIC))
+                    || !isAccessible(bound.owner, binderPackage)) {
+                note(type, "campo '" + bound.field.getSimpleName() + "' não pode ser atribuído diretamente");
+                return false;
+            }
+        }
+        return valid;
+    }
+
+    private boolean isAccessible(TypeElement type, PackageElement fromPackage) {
+        boolean samePackage = elements.getPackageOf(type).equals(fromPackage);
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            Set<Modifier> mods = current.getModifiers();
+            if (mods.contains(Modifier.PRIVATE)) return false;
+            if (!samePackage && !mods.contains(Modifier.PUBLIC)) return false;
+        }
+        return true;
+    }
+
+    private boolean isComponentCompatible(TypeMirror fieldType) {
+        if (fieldType == null) return true;
+        if (fieldType.getKind() != TypeKind.DECLARED) return false;
+
+        TypeElement fieldElement = (TypeElement) ((DeclaredType) fieldType).asElement();
+        if (fieldElement.getKind().isInterface()) return true;
+
+        TypeElement component = elements.getTypeElement(COMPONENT);
+        if (component == null) return true;
+
+        TypeMirror erasure = types.erasure(fieldType);
+        TypeMirror componentType = component.asType();
+        return types.isAssignable(erasure, componentType) || types.isAssignable(componentType, erasure);
+    }
+
+    private void write(TypeElement type, String binaryName, List<BoundField> fields) {
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + BINDER_SUFFIX;
+        String targetType = type.getQualifiedName().toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) source.append("package ").append(packageName).append(";\n\n");
+        source.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+                .append("public final class ").append(simpleName).append(" implements dtm.stools.context.ControllerBinder {\n\n")
+                .append("    @Override\n")
+                .append("    public void bind(Object controller, dtm.stools.context.IWindow window,\n")
+                .append("                     java.util.function.Consumer<? super dtm.stools.context.ElementSubscription> subscriptions) {\n")
+                .append("        ").append(targetType).append(" target = (").append(targetType).append(") controller;\n");
+
+        int index = 0;
+        for (BoundField bound : fields) {
+            String receiver = (bound.owner.equals(type))
+                    ? "target"
+                    : "((" + bound.owner.getQualifiedName() + ") target)";
+            String fieldAccess = receiver + "." + bound.field.getSimpleName();
+            String id = elements.getConstantExpression(bound.refName);
+
+            if (bound.mode == Mode.LAZY_VIEW) {
+                source.append("        subscriptions.accept(dtm.stools.context.ControllerBinder.bindOnAttach(window, ").append(id).append(", ")
+                        .append(types.erasure(bound.field.asType())).append(".class, component -> ")
+                        .append(fieldAccess).append(" = component));\n");
+                continue;
+            }
+
+            if (bound.mode == Mode.REF) {
+                source.append("        ").append(fieldAccess).append(" = (").append(REF).append(") ").append(REF)
+                        .append(".of(window, ").append(id).append(", ").append(classLiteral(bound.componentType())).append(");\n");
+                continue;
+            }
+
+            String lookup = (bound.mode == Mode.CLIENT) ? "window.getFromClient(" + id + ", null)" : "window.findById(" + id + ")";
+            String value = "value" + index++;
+            String erasure = types.erasure(bound.field.asType()).toString();
+            source.append("        Object ").append(value).append(" = ").append(lookup).append(";\n")
+                    .append("        if (").append(value).append(" != null && !(").append(value).append(" instanceof ").append(erasure).append(")) {\n")
+                    .append("            throw new dtm.stools.exceptions.FieldBindingInjectionTypeException(")
+                    .append(elements.getConstantExpression(bound.field.getSimpleName().toString())).append(", ")
+                    .append(erasure).append(".class, ").append(value).append(".getClass(), ").append(value).append(");\n")
+                    .append("        }\n")
+                    .append("        ").append(fieldAccess).append(" = (").append(bound.field.asType()).append(") ").append(value).append(";\n");
+        }
+
+        source.append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public int size() {\n")
+                .append("        return ").append(fields.size()).append(";\n")
+                .append("    }\n")
+                .append("}\n");
+
+        String fileName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try (Writer writer = filer.createSourceFile(fileName, type).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Falha ao gerar " + fileName + ": " + e.getMessage(), type);
+        }
+    }
+
+    private boolean isRef(TypeMirror fieldType) {
+        if (fieldType.getKind() != TypeKind.DECLARED) return false;
+        return ((TypeElement) ((DeclaredType) fieldType).asElement()).getQualifiedName().contentEquals(REF);
+    }
+
+    private String classLiteral(TypeMirror type) {
+        if (type == null || type.getKind() != TypeKind.DECLARED || ((DeclaredType) type).asElement().getKind().isInterface()) {
+            return COMPONENT + ".class";
+        }
+        return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName() + ".class";
+    }
+
+    private TypeElement superclassOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) return null;
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    private AnnotationMirror annotation(Element element, String annotationType) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationElement = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotationElement.getQualifiedName().contentEquals(annotationType)) return mirror;
+        }
+        return null;
+    }
+
+    private String refName(AnnotationMirror mirror, VariableElement field) {
+        Object value = value(mirror, "value");
+        if (value instanceof String name && !name.isEmpty()) return name;
+        return field.getSimpleName().toString();
+    }
+
+    private Object value(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) return entry.getValue().getValue();
+        }
+        return null;
+    }
+
+    private void note(TypeElement type, String reason) {
+        messager.printMessage(Diagnostic.Kind.NOTE,
+                "Injetor não gerado para " + type.getQualifiedName() + " (" + reason + "); será usado o binding por reflexão", type);
+    }
+
+    private enum Mode { VIEW, LAZY_VIEW, REF, CLIENT }
+
+    private static final class BoundField {
+        private final TypeElement owner;
+        private final VariableElement field;
+        private final String refName;
+        private final Mode mode;
+
+        private BoundField(TypeElement owner, VariableElement field, String refName, Mode mode) {
+            this.owner = owner;
+            this.field = field;
+            this.refName = refName;
+            this.mode = mode;
+        }
+
+        /**
+         * Tipo do componente referenciado: o argumento de {@code Ref<T>} (ou {@code null} se não houver limite)
+         * ou o próprio tipo do campo.
+         */
+        private TypeMirror componentType() {
+            TypeMirror type = field.asType();
+            if (mode == Mode.REF) {
+                List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+                if (arguments.isEmpty()) return null;
+                TypeMirror argument = arguments.getFirst();
+                if (argument instanceof WildcardType wildcard) return wildcard.getExtendsBound();
+                return argument;
+            }
+            return type;
+        }
+    }
+}
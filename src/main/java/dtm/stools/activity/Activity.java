@@ -1,16 +1,24 @@
 package dtm.stools.activity;
 
 import dtm.stools.configs.SystemTrayConfiguration;
+import dtm.stools.context.ActivityPool;
+import dtm.stools.context.ComponentPipeline;
 import dtm.stools.context.DomElementLoader;
 import dtm.stools.context.IWindow;
+import dtm.stools.context.TaskScope;
 import dtm.stools.context.WindowContext;
+import dtm.stools.context.WindowExecutorContext;
 import dtm.stools.context.WindowExecutor;
 import dtm.stools.context.enums.TrayEventType;
+import dtm.stools.context.monitoring.StartupProfiler;
+import dtm.stools.context.ElementSubscription;
 import dtm.stools.exceptions.DomElementNotFoundException;
 import dtm.stools.exceptions.DomNotLoadException;
 import dtm.stools.exceptions.InvalidClientSideElementException;
 import dtm.stools.internal.DomElementLoaderService;
+import dtm.stools.internal.monitoring.StartupRecorder;
 import dtm.stools.internal.window.ActivityWindowExecutor;
+import dtm.stools.internal.window.WindowTaskScope;
 import dtm.stools.models.SystemTrayConfigurationConcrete;
 import lombok.Getter;
 import lombok.NonNull;
@@ -28,16 +36,19 @@ import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @SuppressWarnings("unchecked")
 public abstract class Activity extends JFrame implements IWindow {
     private final Map<String, Object> clientSideElements;
     private final AtomicBoolean initialized = new AtomicBoolean(false);
+    private final AtomicBoolean prepared = new AtomicBoolean(false);
     private final SystemTrayConfiguration systemTrayConfiguration;
     private final ExecutorService executorService;
-    private final Map<String, List<Component>> domViewer;
+    private final TaskScope taskScope;
     private final DomElementLoader domElementLoader;
     private final WindowExecutor windowExecutor;
+    private volatile StartupRecorder startupRecorder = StartupRecorder.DISABLED;
 
     @Getter
     protected SystemTray tray;
@@ -48,26 +59,25 @@ public abstract class Activity extends JFrame implements IWindow {
     protected TrayIcon trayIcon;
 
     {
-        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        this.executorService = WindowExecutorContext.newWindowExecutor();
+        this.taskScope = new WindowTaskScope(this.executorService);
     }
 
     protected Activity(){
-        this.domViewer = new ConcurrentHashMap<>();
         this.clientSideElements = new ConcurrentHashMap<>();
         this.systemTrayConfiguration = new SystemTrayConfigurationConcrete();
-        this.domElementLoader = new DomElementLoaderService<>(this, this.domViewer, this.executorService);
+        this.domElementLoader = new DomElementLoaderService<>(this, this.executorService);
         WindowContext.pushWindow(this);
-        this.windowExecutor = new ActivityWindowExecutor(this::onError);
+        this.windowExecutor = new ActivityWindowExecutor(getClass(), this::onError);
     }
 
     protected Activity(String title){
         super(title);;
-        this.domViewer = new ConcurrentHashMap<>();
         this.clientSideElements = new ConcurrentHashMap<>();
         this.systemTrayConfiguration = new SystemTrayConfigurationConcrete();
-        this.domElementLoader = new DomElementLoaderService<>(this, this.domViewer, this.executorService);
+        this.domElementLoader = new DomElementLoaderService<>(this, this.executorService);
         WindowContext.pushWindow(this);
-        this.windowExecutor = new ActivityWindowExecutor(this::onError);
+        this.windowExecutor = new ActivityWindowExecutor(getClass(), this::onError);
     }
 
     /**
@@ -83,24 +93,53 @@ public abstract class Activity extends JFrame implements IWindow {
     @Override
     public void init(){
         windowExecutor.execute(() -> {
+            prepareWindow();
             if(initialized.compareAndSet(false, true)) {
-                applySystemTrayConfiguration(systemTrayConfiguration);
-                setupSystemTray();
-                onDrawing();
-                this.domElementLoader.load();
-                addEvents();
-                SwingUtilities.invokeLater(() -> setVisible(true));
+                showAlwaysVisibleTrayIcon();
+                SwingUtilities.invokeLater(() -> startupRecorder.measure("setVisible", () -> setVisible(true)));
             };
         }, "init");
     }
 
+    /**
+     * Constrói a janela sem exibi-la.
+     *
+     * <p>Executa as mesmas etapas de {@code init()} (bandeja, {@code onDrawing()}, DOM e eventos),
+     * exceto o {@code setVisible(true)}. Uma chamada posterior a {@code init()} apenas exibe a janela.
+     * O ícone da bandeja configurado como sempre visível só é adicionado no {@code init()}: até lá a janela
+     * preparada não é referenciada pela {@link SystemTray}, e pode ser descartada sem deixar o ícone para trás.
+     *
+     * <p>Esse método só será executado uma vez, mesmo que chamado múltiplas vezes.
+     */
+    @Override
+    public void prepare(){
+        windowExecutor.execute(this::prepareWindow, "prepare");
+    }
+
+    /**
+     * Registra a primeira pintura do frame no {@link StartupProfiler}, quando habilitado.
+     */
+    @Override
+    public void paint(Graphics g) {
+        super.paint(g);
+        startupRecorder.markFirstPaint();
+    }
+
     /**
      * Realiza a finalização da atividade, encerrando recursos como Executor e removendo o ícone da bandeja.
      * Este método também remove a janela do contexto global {@code WindowContext}.
+     *
+     * <p>Se a janela foi obtida de um {@link ActivityPool}, ela é apenas ocultada e devolvida ao pool,
+     * mantendo o executor e o índice do DOM; as tarefas do {@link TaskScope} são canceladas da mesma forma.
      */
     @Override
     public void dispose() {
+        if (ActivityPool.recycle(this, () -> {
+            taskScope.cancelAll();
+            initialized.set(false);
+        })) return;
         windowExecutor.execute(() -> {
+            taskScope.close();
             if (!executorService.isShutdown()) executorService.shutdownNow();
             safelyRemoveTrayIcon();
             WindowContext.removeWindow(this);
@@ -110,6 +149,8 @@ public abstract class Activity extends JFrame implements IWindow {
 
     /**
      * Recupera todos os componentes associados ao ID especificado.
+     * Na Event Dispatch Thread a chamada não aguarda a indexação completa: enquanto o índice não estiver pronto,
+     * é feita uma busca direcionada na árvore atual.
      *
      * @param id ID do componente.
      * @return Lista de componentes encontrados ou lista vazia.
@@ -119,11 +160,12 @@ public abstract class Activity extends JFrame implements IWindow {
     public List<Component> findAllById(@NonNull String id) {
        return windowExecutor.execute(() -> {
             if (domElementLoader.isInitialized()) {
+                if (SwingUtilities.isEventDispatchThread()) return domElementLoader.findElementsById(id);
                 if(!domElementLoader.isLoad())domElementLoader.completeLoad();
             } else {
                 throw new DomNotLoadException("DomView ainda não foi iniciado.");
             }
-            return domViewer.getOrDefault(id, Collections.EMPTY_LIST);
+            return domElementLoader.getElementsById(id);
        }, "findAllById");
     }
 
@@ -148,6 +190,133 @@ public abstract class Activity extends JFrame implements IWindow {
         }, "findById");
     }
 
+    /**
+     * Recupera o primeiro componente associado ao ID sem bloquear a thread chamadora.
+     * Se o índice ainda não estiver pronto e a chamada ocorrer na Event Dispatch Thread, uma busca direcionada
+     * na árvore atual é feita antes de aguardar a indexação completa.
+     *
+     * @param id ID do componente.
+     * @param <T> Tipo do componente.
+     * @return Future concluído com o componente, ou com {@link DomElementNotFoundException} se não houver componente com o ID.
+     */
+    @Override
+    public <T extends Component> CompletableFuture<T> findByIdAsync(@NonNull String id) {
+        if (!domElementLoader.isInitialized()) {
+            return CompletableFuture.failedFuture(new DomNotLoadException("DomView ainda não foi iniciado."));
+        }
+        return domElementLoader.findElementsByIdAsync(id).thenApply(components -> {
+            if (components.isEmpty()) throw new DomElementNotFoundException("Componente com id '" + id + "' não encontrado.");
+            return (T) components.getFirst();
+        });
+    }
+
+    /**
+     * Registra um ouvinte chamado na Event Dispatch Thread sempre que um componente com o ID passa a fazer
+     * parte do índice do DOM. Componentes já indexados no momento da inscrição são entregues imediatamente,
+     * o que permite registrar o ouvinte antes mesmo do carregamento terminar.
+     *
+     * @param id ID do componente.
+     * @param listener Ouvinte que recebe o componente anexado.
+     * @return Inscrição que pode ser cancelada com {@link ElementSubscription#unsubscribe()}.
+     */
+    @Override
+    public ElementSubscription onElementAttached(@NonNull String id, @NonNull Consumer<Component> listener) {
+        return domElementLoader.onElementAttached(id, listener);
+    }
+
+    /**
+     * Registra um ouvinte chamado na Event Dispatch Thread sempre que um componente com o ID deixa o índice do DOM,
+     * seja por remoção da árvore ou por troca de nome.
+     *
+     * @param id ID do componente.
+     * @param listener Ouvinte que recebe o componente removido.
+     * @return Inscrição que pode ser cancelada com {@link ElementSubscription#unsubscribe()}.
+     */
+    @Override
+    public ElementSubscription onElementDetached(@NonNull String id, @NonNull Consumer<Component> listener) {
+        return domElementLoader.onElementDetached(id, listener);
+    }
+
+    /**
+     * Recupera todos os componentes do tipo especificado, incluindo subclasses.
+     * O array retornado é compartilhado entre chamadas e não deve ser modificado.
+     *
+     * @param type Tipo do componente.
+     * @param <T> Tipo do componente.
+     * @return Componentes encontrados ou array vazio.
+     * @throws DomNotLoadException se o DOM ainda não tiver sido carregado.
+     */
+    @Override
+    public <T extends Component> T[] findAllByType(@NonNull Class<T> type) {
+        return windowExecutor.execute(() -> {
+            if (domElementLoader.isInitialized()) {
+                if(!domElementLoader.isLoad())domElementLoader.completeLoad();
+            } else {
+                throw new DomNotLoadException("DomView ainda não foi iniciado.");
+            }
+            return domElementLoader.getElementsByType(type);
+        }, "findAllByType");
+    }
+
+    /**
+     * Recupera o primeiro componente do tipo especificado.
+     *
+     * @param type Tipo do componente.
+     * @param <T> Tipo do componente.
+     * @return Primeiro componente encontrado do tipo.
+     * @throws DomElementNotFoundException se nenhum componente do tipo for encontrado.
+     * @throws DomNotLoadException se o DOM ainda não tiver sido carregado.
+     */
+    @Override
+    public <T extends Component> T findFirstByType(@NonNull Class<T> type) {
+        T[] components = findAllByType(type);
+        if (components.length > 0) return components[0];
+        throw new DomElementNotFoundException("Nenhum componente do tipo '" + type.getSimpleName() + "' encontrado.");
+    }
+
+    /**
+     * Recupera o primeiro componente que corresponde ao seletor, avaliado sobre o índice do DOM.
+     * Suporta tipo ({@code JButton}), nome ({@code #salvar}), client properties ({@code [chave=valor]})
+     * e os combinadores de descendente, filho ({@code >}) e grupo ({@code ,}).
+     *
+     * @param selector Seletor a ser avaliado.
+     * @param <T> Tipo do componente.
+     * @return Primeiro componente encontrado ou {@code null}.
+     * @throws dtm.stools.exceptions.InvalidSelectorException se o seletor for inválido.
+     * @throws DomNotLoadException se o DOM ainda não tiver sido carregado.
+     */
+    @Override
+    public <T extends Component> T querySelector(@NonNull String selector) {
+        return windowExecutor.execute(() -> {
+            if (domElementLoader.isInitialized()) {
+                if(!domElementLoader.isLoad())domElementLoader.completeLoad();
+            } else {
+                throw new DomNotLoadException("DomView ainda não foi iniciado.");
+            }
+            return (T) domElementLoader.querySelector(selector);
+        }, "querySelector");
+    }
+
+    /**
+     * Recupera todos os componentes que correspondem ao seletor, avaliado sobre o índice do DOM.
+     *
+     * @param selector Seletor a ser avaliado.
+     * @return Lista imutável com os componentes encontrados ou lista vazia.
+     * @throws dtm.stools.exceptions.InvalidSelectorException se o seletor for inválido.
+     * @throws DomNotLoadException se o DOM ainda não tiver sido carregado.
+     */
+    @Override
+    public List<Component> querySelectorAll(@NonNull String selector) {
+        return windowExecutor.execute(() -> {
+            if (domElementLoader.isInitialized()) {
+                if(!domElementLoader.isLoad())domElementLoader.completeLoad();
+            } else {
+                throw new DomNotLoadException("DomView ainda não foi iniciado.");
+            }
+            return domElementLoader.querySelectorAll(selector);
+        }, "querySelectorAll");
+    }
+
     /**
      * Recarrega os elementos do DOM, executando o processo de novo.
      */
@@ -223,6 +392,17 @@ public abstract class Activity extends JFrame implements IWindow {
         return windowExecutor;
     }
 
+    /**
+     * Retorna o escopo de tarefas assíncronas da janela.
+     * As tarefas do escopo são canceladas automaticamente no {@code dispose()}.
+     *
+     * @return escopo de tarefas da janela
+     */
+    @Override
+    public TaskScope getTaskScope() {
+        return taskScope;
+    }
+
     /**
      * Define se a bandeja do sistema está habilitada e disponível para uso.
      *
@@ -465,23 +645,50 @@ public abstract class Activity extends JFrame implements IWindow {
 
     /**
      * Executa um comando assíncrono usando o executor principal da janela.
+     * A tarefa é registrada no {@link TaskScope} da janela e cancelada no {@code dispose()}.
      *
      * @param command Comando a ser executado.
      * @return {@code CompletableFuture} representando a execução.
      */
     protected CompletableFuture<?> runOnWindowExecutor(Runnable command){
-        return CompletableFuture.runAsync(command, executorService);
+        return taskScope.run(command);
     }
 
     /**
      * Executa uma operação assíncrona e retorna um resultado via {@code CompletableFuture}.
+     * A tarefa é registrada no {@link TaskScope} da janela e cancelada no {@code dispose()}.
      *
      * @param command Operação a ser executada.
      * @param <T> Tipo do resultado.
      * @return {@code CompletableFuture} com o resultado.
      */
     protected <T> CompletableFuture<T> runOnWindowExecutor(Supplier<T> command){
-        return CompletableFuture.supplyAsync(command, executorService);
+        return taskScope.supply(command);
+    }
+
+    /**
+     * Cria um {@link ComponentPipeline} que constrói seções da interface em paralelo no executor da janela
+     * e as anexa ao content pane em um único passo. Destinado ao uso dentro de {@link #onDrawing()}.
+     *
+     * @return novo pipeline de construção.
+     */
+    protected ComponentPipeline newComponentPipeline(){
+        return new ComponentPipeline(getContentPane(), executorService);
+    }
+
+    private void prepareWindow(){
+        if(prepared.compareAndSet(false, true)) {
+            StartupRecorder recorder = StartupProfiler.start(getClass());
+            this.startupRecorder = recorder;
+            recorder.measure("applySystemTrayConfiguration", () -> applySystemTrayConfiguration(systemTrayConfiguration));
+            recorder.measure("setupSystemTray", this::setupSystemTray);
+            recorder.measure("onDrawing", this::onDrawing);
+            recorder.measure("domElementLoader.load", this.domElementLoader::load);
+            recorder.measure("addEvents", this::addEvents);
+            if (recorder != StartupRecorder.DISABLED && domElementLoader.getLoadAction() instanceof CompletableFuture<Void> loadAction) {
+                loadAction.whenComplete((result, error) -> recorder.mark("domIndexed"));
+            }
+        }
     }
 
     private void setupSystemTray(){
@@ -492,7 +699,12 @@ public abstract class Activity extends JFrame implements IWindow {
             trayImage = createDefaultTrayIcon();
         }
         addSystemTray();
-        if(systemTrayConfiguration.isAlwaysVisible()) safelyAddTrayIcon(true);
+    }
+
+    private void showAlwaysVisibleTrayIcon(){
+        if (tray == null || trayIcon == null || !systemTrayConfiguration.isAlwaysVisible()) return;
+        if (Arrays.asList(tray.getTrayIcons()).contains(trayIcon)) return;
+        safelyAddTrayIcon(true);
     }
 
     private void initSystemTray(){
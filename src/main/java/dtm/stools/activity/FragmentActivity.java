@@ -1,77 +1,93 @@
 package dtm.stools.activity;
 
+import dtm.stools.context.ActivityPool;
 import dtm.stools.context.DomElementLoader;
 import dtm.stools.context.IWindow;
+import dtm.stools.context.TaskScope;
 import dtm.stools.context.WindowContext;
+import dtm.stools.context.WindowExecutorContext;
 import dtm.stools.context.WindowExecutor;
+import dtm.stools.context.ElementSubscription;
 import dtm.stools.exceptions.DomElementNotFoundException;
 import dtm.stools.exceptions.DomNotLoadException;
 import dtm.stools.exceptions.InvalidClientSideElementException;
 import dtm.stools.internal.DomElementLoaderService;
 import dtm.stools.internal.window.ActivityWindowExecutor;
+import dtm.stools.internal.window.WindowTaskScope;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.WindowEvent;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
+import java.util.function.Consumer;
 
 @SuppressWarnings("unchecked")
 public abstract class FragmentActivity extends JDialog implements IWindow {
     private final Map<String, Object> clientSideElements;
     private final AtomicBoolean initialized = new AtomicBoolean(false);
+    private final AtomicBoolean prepared = new AtomicBoolean(false);
     private final ExecutorService executorService;
-    private final Map<String, List<Component>> domViewer;
+    private final TaskScope taskScope;
     private final DomElementLoader domElementLoader;
     private final WindowExecutor windowExecutor;
 
     {
-        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        this.executorService = WindowExecutorContext.newWindowExecutor();
+        this.taskScope = new WindowTaskScope(this.executorService);
     }
 
     protected FragmentActivity(){
-        this.domViewer = new ConcurrentHashMap<>();
         this.clientSideElements = new ConcurrentHashMap<>();
-        this.domElementLoader = new DomElementLoaderService<>(this, this.domViewer, this.executorService);
+        this.domElementLoader = new DomElementLoaderService<>(this, this.executorService);
         WindowContext.pushWindow(this);
-        this.windowExecutor = new ActivityWindowExecutor(this::onError);
+        this.windowExecutor = new ActivityWindowExecutor(getClass(), this::onError);
     }
 
     protected FragmentActivity(JFrame owner, boolean modal){
         super(owner, modal);
-        this.domViewer = new ConcurrentHashMap<>();
         this.clientSideElements = new ConcurrentHashMap<>();
-        this.domElementLoader = new DomElementLoaderService<>(this, this.domViewer, this.executorService);
+        this.domElementLoader = new DomElementLoaderService<>(this, this.executorService);
         WindowContext.pushWindow(this);
-        this.windowExecutor = new ActivityWindowExecutor(this::onError);
+        this.windowExecutor = new ActivityWindowExecutor(getClass(), this::onError);
     }
 
     protected FragmentActivity(JFrame owner, String title, boolean modal){
         super(owner, title, modal);
-        this.domViewer = new ConcurrentHashMap<>();
         this.clientSideElements = new ConcurrentHashMap<>();
-        this.domElementLoader = new DomElementLoaderService<>(this, this.domViewer, this.executorService);
+        this.domElementLoader = new DomElementLoaderService<>(this, this.executorService);
         WindowContext.pushWindow(this);
-        this.windowExecutor = new ActivityWindowExecutor(this::onError);
+        this.windowExecutor = new ActivityWindowExecutor(getClass(), this::onError);
     }
 
     @Override
     public void init(){
+        prepare();
         if (initialized.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(() -> setVisible(true));
+        }
+    }
+
+    @Override
+    public void prepare(){
+        if (prepared.compareAndSet(false, true)) {
             onDrawing();
             this.domElementLoader.load();
             addEvents();
-            SwingUtilities.invokeLater(() -> setVisible(true));
         }
     }
 
     @Override
     public void dispose() {
+        if (ActivityPool.recycle(this, () -> {
+            taskScope.cancelAll();
+            initialized.set(false);
+        })) return;
+        taskScope.close();
         if (!executorService.isShutdown()) executorService.shutdownNow();
         WindowContext.removeWindow(this);
         super.dispose();
@@ -80,11 +96,12 @@ public abstract class FragmentActivity extends JDialog implements IWindow {
     @Override
     public List<Component> findAllById(@NonNull String id) {
         if (domElementLoader.isInitialized()) {
+            if (SwingUtilities.isEventDispatchThread()) return domElementLoader.findElementsById(id);
             if(!domElementLoader.isLoad())domElementLoader.completeLoad();
         } else {
             throw new DomNotLoadException("DomView ainda não foi iniciado.");
         }
-        return domViewer.getOrDefault(id, Collections.EMPTY_LIST);
+        return domElementLoader.getElementsById(id);
     }
 
     @Override
@@ -98,6 +115,64 @@ public abstract class FragmentActivity extends JDialog implements IWindow {
         throw new DomElementNotFoundException("Componente com id '" + id + "' não encontrado.");
     }
 
+    @Override
+    public <T extends Component> CompletableFuture<T> findByIdAsync(@NonNull String id) {
+        if (!domElementLoader.isInitialized()) {
+            return CompletableFuture.failedFuture(new DomNotLoadException("DomView ainda não foi iniciado."));
+        }
+        return domElementLoader.findElementsByIdAsync(id).thenApply(components -> {
+            if (components.isEmpty()) throw new DomElementNotFoundException("Componente com id '" + id + "' não encontrado.");
+            return (T) components.getFirst();
+        });
+    }
+
+    @Override
+    public ElementSubscription onElementAttached(@NonNull String id, @NonNull Consumer<Component> listener) {
+        return domElementLoader.onElementAttached(id, listener);
+    }
+
+    @Override
+    public ElementSubscription onElementDetached(@NonNull String id, @NonNull Consumer<Component> listener) {
+        return domElementLoader.onElementDetached(id, listener);
+    }
+
+
+    @Override
+    public <T extends Component> T[] findAllByType(@NonNull Class<T> type) {
+        if (domElementLoader.isInitialized()) {
+            if(!domElementLoader.isLoad())domElementLoader.completeLoad();
+        } else {
+            throw new DomNotLoadException("DomView ainda não foi iniciado.");
+        }
+        return domElementLoader.getElementsByType(type);
+    }
+
+    @Override
+    public <T extends Component> T findFirstByType(@NonNull Class<T> type) {
+        T[] components = findAllByType(type);
+        if (components.length > 0) return components[0];
+        throw new DomElementNotFoundException("Nenhum componente do tipo '" + type.getSimpleName() + "' encontrado.");
+    }
+
+    @Override
+    public <T extends Component> T querySelector(@NonNull String selector) {
+        if (domElementLoader.isInitialized()) {
+            if(!domElementLoader.isLoad())domElementLoader.completeLoad();
+        } else {
+            throw new DomNotLoadException("DomView ainda não foi iniciado.");
+        }
+        return (T) domElementLoader.querySelector(selector);
+    }
+
+    @Override
+    public List<Component> querySelectorAll(@NonNull String selector) {
+        if (domElementLoader.isInitialized()) {
+            if(!domElementLoader.isLoad())domElementLoader.completeLoad();
+        } else {
+            throw new DomNotLoadException("DomView ainda não foi iniciado.");
+        }
+        return domElementLoader.querySelectorAll(selector);
+    }
 
     @Override
     public void reloadDomElements() {
@@ -140,6 +215,11 @@ public abstract class FragmentActivity extends JDialog implements IWindow {
         return windowExecutor;
     }
 
+    @Override
+    public TaskScope getTaskScope() {
+        return taskScope;
+    }
+
     protected void onDrawing() {
         setupWindow();
     }
@@ -191,11 +271,11 @@ public abstract class FragmentActivity extends JDialog implements IWindow {
     }
 
     protected CompletableFuture<?> runOnWindowExecutor(Runnable command){
-        return CompletableFuture.runAsync(command, executorService);
+        return taskScope.run(command);
     }
 
     protected <T> CompletableFuture<T> runOnWindowExecutor(Supplier<T> command){
-        return CompletableFuture.supplyAsync(command, executorService);
+        return taskScope.supply(command);
     }
 
     private void addEvents(){
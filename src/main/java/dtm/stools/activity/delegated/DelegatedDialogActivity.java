@@ -50,6 +50,17 @@ public abstract class DelegatedDialogActivity<T extends AbstractController<Dialo
         controller.onClose(this);
     }
 
+    /**
+     * Cancela as inscrições do controller no barramento de eventos antes de descartar a janela ou devolvê-la
+     * ao {@link dtm.stools.context.ActivityPool}. O fechamento pelo botão da janela nem sempre descarta a janela
+     * (por exemplo com {@code DO_NOTHING_ON_CLOSE} ou minimizando para a bandeja), por isso não é feito no {@code onClose}.
+     */
+    @Override
+    public void dispose() {
+        if (controller != null) controller.unsubscribeAll();
+        super.dispose();
+    }
+
     @Override
     protected void onLostFocus(WindowEvent e) throws Exception{
         super.onLostFocus(e);
@@ -62,9 +73,16 @@ public abstract class DelegatedDialogActivity<T extends AbstractController<Dialo
         this.controller.onLoad(this);
     }
 
+    /**
+     * Cria o controller de uma nova exibição. Uma janela reaproveitada pelo {@link dtm.stools.context.ActivityPool}
+     * passa novamente pelo {@code init()}; o controller da exibição anterior é liberado aqui para não manter
+     * inscrições nem referências ativas.
+     */
     private void onCreateController(){
+        T previous = controller;
         controller = newController();
         if(controller == null)  throw new DelegatedWindowException("Falha ao obter o controller", new NullPointerException("controller null"));
+        if(previous != null && previous != controller) previous.unsubscribeAll();
     }
 
     @SuppressWarnings("unchecked")
@@ -1,11 +1,17 @@
 package dtm.stools.component;
 
+import dtm.stools.context.ComponentPipeline;
 import dtm.stools.context.DomElementLoader;
 import dtm.stools.context.IWindow;
 import dtm.stools.context.IWindowComponent;
+import dtm.stools.context.TaskScope;
+import dtm.stools.context.WindowExecutorContext;
+import dtm.stools.context.ElementSubscription;
 import dtm.stools.exceptions.DomElementNotFoundException;
 import dtm.stools.exceptions.DomNotLoadException;
 import dtm.stools.internal.DomComponentElementLoaderService;
+import dtm.stools.internal.window.EdtIdleScheduler;
+import dtm.stools.internal.window.WindowTaskScope;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 
@@ -14,36 +20,58 @@ import java.awt.*;
 import java.awt.event.FocusEvent;
 import java.awt.event.FocusListener;
 import java.awt.event.HierarchyEvent;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.awt.event.MouseAdapter;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 @SuppressWarnings("unchecked")
 public abstract class ViewPanel extends JPanel implements IWindowComponent {
     private final ExecutorService executorService;
-    private final Map<String, List<Component>> domViewer;
+    private final TaskScope taskScope;
     private final DomElementLoader domElementLoader;
+    private final AtomicBoolean realized;
+    private Component placeholder;
+    private Timer releaseTimer;
+    private MouseAdapter clickListener;
+    private FocusListener focusListener;
 
     protected ViewPanel() {
-        this.executorService = Executors.newVirtualThreadPerTaskExecutor();
-        this.domViewer = new ConcurrentHashMap<>();
-        this.domElementLoader = new DomComponentElementLoaderService<>(this, domViewer, executorService);
+        this.executorService = WindowExecutorContext.newWindowExecutor();
+        this.taskScope = new WindowTaskScope(executorService);
+        this.domElementLoader = new DomComponentElementLoaderService<>(this, executorService);
+        this.realized = new AtomicBoolean(false);
         setupHierarchyListener();
     }
 
     @Override
     public void addNotify() {
+        domElementLoader.updateScope();
         super.addNotify();
-        onDrawing();
-        reloadDomElements();
+        if (!isLazyRealization()) {
+            realized.set(true);
+            onDrawing();
+            loadDomElements();
+            return;
+        }
+
+        if (!realized.get()) {
+            showPlaceholder();
+            if (isIdlePrebuildEnabled()) {
+                EdtIdleScheduler.schedule(() -> {
+                    if (isDisplayable()) realize();
+                });
+            }
+        }
     }
 
     @Override
     public void removeNotify() {
+        // o painel ainda está no pai durante o removeNotify; o escopo é revalidado depois da remoção
+        SwingUtilities.invokeLater(domElementLoader::updateScope);
         super.removeNotify();
+        taskScope.cancelAll();
         onRemoved();
     }
 
@@ -51,11 +79,12 @@ public abstract class ViewPanel extends JPanel implements IWindowComponent {
     @Override
     public List<Component> findAllById(@NonNull String id) {
         if (domElementLoader.isInitialized()) {
+            if (SwingUtilities.isEventDispatchThread()) return domElementLoader.findElementsById(id);
             if(!domElementLoader.isLoad())domElementLoader.completeLoad();
         } else {
             throw new DomNotLoadException("DomView ainda não foi iniciado.");
         }
-        return domViewer.getOrDefault(id, Collections.emptyList());
+        return domElementLoader.getElementsById(id);
     }
 
     @SneakyThrows
@@ -66,11 +95,96 @@ public abstract class ViewPanel extends JPanel implements IWindowComponent {
         throw new DomElementNotFoundException("Componente com id '" + id + "' não encontrado.");
     }
 
+    @Override
+    public <T extends Component> CompletableFuture<T> findByIdAsync(@NonNull String id) {
+        if (!domElementLoader.isInitialized()) {
+            return CompletableFuture.failedFuture(new DomNotLoadException("DomView ainda não foi iniciado."));
+        }
+        return domElementLoader.findElementsByIdAsync(id).thenApply(components -> {
+            if (components.isEmpty()) throw new DomElementNotFoundException("Componente com id '" + id + "' não encontrado.");
+            return (T) components.getFirst();
+        });
+    }
+
+    @Override
+    public ElementSubscription onElementAttached(@NonNull String id, @NonNull Consumer<Component> listener) {
+        return domElementLoader.onElementAttached(id, listener);
+    }
+
+    @Override
+    public ElementSubscription onElementDetached(@NonNull String id, @NonNull Consumer<Component> listener) {
+        return domElementLoader.onElementDetached(id, listener);
+    }
+
+    @Override
+    public <T extends Component> T[] findAllByType(@NonNull Class<T> type) {
+        if (domElementLoader.isInitialized()) {
+            if(!domElementLoader.isLoad())domElementLoader.completeLoad();
+        } else {
+            throw new DomNotLoadException("DomView ainda não foi iniciado.");
+        }
+        return domElementLoader.getElementsByType(type);
+    }
+
+    @Override
+    public <T extends Component> T findFirstByType(@NonNull Class<T> type) {
+        T[] components = findAllByType(type);
+        if (components.length > 0) return components[0];
+        throw new DomElementNotFoundException("Nenhum componente do tipo '" + type.getSimpleName() + "' encontrado.");
+    }
+
+    @Override
+    public <T extends Component> T querySelector(@NonNull String selector) {
+        if (domElementLoader.isInitialized()) {
+            if(!domElementLoader.isLoad())domElementLoader.completeLoad();
+        } else {
+            throw new DomNotLoadException("DomView ainda não foi iniciado.");
+        }
+        return (T) domElementLoader.querySelector(selector);
+    }
+
+    @Override
+    public List<Component> querySelectorAll(@NonNull String selector) {
+        if (domElementLoader.isInitialized()) {
+            if(!domElementLoader.isLoad())domElementLoader.completeLoad();
+        } else {
+            throw new DomNotLoadException("DomView ainda não foi iniciado.");
+        }
+        return domElementLoader.querySelectorAll(selector);
+    }
+
     @Override
     public void reloadDomElements() {
         domElementLoader.reload();
     }
 
+    @Override
+    public TaskScope getTaskScope() {
+        return taskScope;
+    }
+
+    /**
+     * Constrói o conteúdo do painel ({@code onDrawing()}) e indexa o DOM, caso ainda não tenha sido feito.
+     * Deve ser chamado na Event Dispatch Thread. Em modo não preguiçoso o conteúdo já é construído no {@code addNotify()}.
+     */
+    public void realize() {
+        if (!realized.compareAndSet(false, true)) return;
+        removePlaceholder();
+        onDrawing();
+        loadDomElements();
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Indica se o conteúdo do painel está construído.
+     *
+     * @return {@code true} se o {@code onDrawing()} foi executado e o conteúdo não foi liberado.
+     */
+    public boolean isRealized() {
+        return realized.get();
+    }
+
     protected void onDrawing(){
         enableFocusListenerIfFocusable();
         enableClickListener();
@@ -78,8 +192,56 @@ public abstract class ViewPanel extends JPanel implements IWindowComponent {
 
     protected void onLoad() {}
 
+    protected ComponentPipeline newComponentPipeline(){
+        return new ComponentPipeline(this, executorService);
+    }
+
     protected void onRemoved() {}
 
+    /**
+     * Habilita a construção preguiçosa: o conteúdo só é construído quando o painel é exibido pela primeira vez,
+     * exibindo até lá o componente retornado por {@link #createPlaceholder()}.
+     *
+     * @return {@code true} para habilitar o modo preguiçoso. Padrão {@code false}.
+     */
+    protected boolean isLazyRealization() {
+        return false;
+    }
+
+    /**
+     * Em modo preguiçoso, antecipa a construção para quando a fila de eventos estiver ociosa,
+     * mesmo que o painel ainda não esteja visível.
+     *
+     * @return {@code true} para construir em tempo ocioso. Padrão {@code false}.
+     */
+    protected boolean isIdlePrebuildEnabled() {
+        return false;
+    }
+
+    /**
+     * Em modo preguiçoso, tempo que o painel deve permanecer oculto antes de ter o conteúdo liberado.
+     *
+     * @return atraso em milissegundos, ou um valor negativo para nunca liberar. Padrão {@code -1}.
+     */
+    protected long getReleaseDelayMillis() {
+        return -1;
+    }
+
+    /**
+     * Componente exibido enquanto o conteúdo não foi construído.
+     *
+     * @return placeholder, ou {@code null} para manter o painel vazio.
+     */
+    protected Component createPlaceholder() {
+        return null;
+    }
+
+    /**
+     * Chamado após o conteúdo ser liberado, para que a subclasse descarte referências
+     * aos componentes criados no {@code onDrawing()}.
+     */
+    protected void onReleased() {}
+
     protected void onLostFocus(FocusEvent e) {}
 
     protected void onFocus(FocusEvent e) {}
@@ -90,26 +252,33 @@ public abstract class ViewPanel extends JPanel implements IWindowComponent {
         this.addHierarchyListener(e -> {
             if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0) {
                 if (this.isShowing()) {
+                    if (isLazyRealization()) {
+                        cancelRelease();
+                        realize();
+                    }
                     onLoad();
                 } else {
                     onRemoved();
+                    if (isLazyRealization()) scheduleRelease();
                 }
             }
         });
     }
 
     protected void enableClickListener() {
-        this.addMouseListener(new java.awt.event.MouseAdapter() {
+        if (clickListener != null) return;
+        clickListener = new MouseAdapter() {
             @Override
             public void mouseClicked(java.awt.event.MouseEvent e) {
                 onClick(e);
             }
-        });
+        };
+        this.addMouseListener(clickListener);
     }
 
     protected void enableFocusListenerIfFocusable() {
-        if(this.isFocusable()){
-            this.addFocusListener(new FocusListener() {
+        if(this.isFocusable() && focusListener == null){
+            focusListener = new FocusListener() {
                 @Override
                 public void focusGained(FocusEvent e) {
                     onFocus(e);
@@ -119,45 +288,49 @@ public abstract class ViewPanel extends JPanel implements IWindowComponent {
                 public void focusLost(FocusEvent e) {
                     onLostFocus(e);
                 }
-            });
+            };
+            this.addFocusListener(focusListener);
         }
     }
 
-    private Future<Void> loadDomView() {
-        return CompletableFuture.runAsync(this::loadThis, executorService);
+    private void scheduleRelease() {
+        long delay = getReleaseDelayMillis();
+        if (delay < 0 || !realized.get()) return;
+        cancelRelease();
+        releaseTimer = new Timer((int) Math.min(delay, Integer.MAX_VALUE), e -> release());
+        releaseTimer.setRepeats(false);
+        releaseTimer.start();
     }
 
-    private void loadThis() {
-        List<Component> rootList = this.domViewer.computeIfAbsent("root", k ->
-                Collections.synchronizedList(new ArrayList<>())
-        );
-        rootList.add(this);
-
-        List<CompletableFuture<Void>> futures = new ArrayList<>();
-        for (Component component : this.getComponents()) {
-            futures.add(CompletableFuture.runAsync(() ->
-                            collectComponentsRecursive(component)
-                    , executorService));
+    private void cancelRelease() {
+        if (releaseTimer != null) {
+            releaseTimer.stop();
+            releaseTimer = null;
         }
+    }
 
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    private void release() {
+        releaseTimer = null;
+        if (isShowing() || !realized.compareAndSet(true, false)) return;
+        taskScope.cancelAll();
+        removeAll();
+        onReleased();
+        if (isDisplayable()) showPlaceholder();
+        revalidate();
+        repaint();
     }
 
-    private void collectComponentsRecursive(Component component) {
-        if (component == null) return;
+    private void showPlaceholder() {
+        if (placeholder == null) placeholder = createPlaceholder();
+        if (placeholder != null && placeholder.getParent() != this) add(placeholder);
+    }
 
-        String name = component.getName();
-        if (name != null && !name.isBlank()) {
-            domViewer
-                    .computeIfAbsent(name, k -> Collections.synchronizedList(new ArrayList<>()))
-                    .add(component);
-        }
+    private void removePlaceholder() {
+        if (placeholder != null && placeholder.getParent() == this) remove(placeholder);
+    }
 
-        if (component instanceof Container container) {
-            for (Component child : container.getComponents()) {
-                collectComponentsRecursive(child);
-            }
-        }
+    private void loadDomElements() {
+        if (!domElementLoader.isInitialized()) domElementLoader.load();
     }
 
 }
@@ -0,0 +1,145 @@
+package dtm.stools.component.binding;
+
+import dtm.stools.component.events.EventComponent;
+import dtm.stools.component.events.EventListenerComponent;
+import dtm.stools.component.events.EventType;
+import dtm.stools.component.inputfields.selectfield.DropdownField;
+import dtm.stools.component.inputfields.textfield.CurrencyField;
+import dtm.stools.component.inputfields.textfield.MaskedTextField;
+import dtm.stools.component.panels.datefield.DatePickerField;
+import dtm.stools.internal.binding.FrameCoalescer;
+import lombok.NonNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Vínculos bidirecionais entre {@link Property} e componentes de entrada.
+ *
+ * <p>Alterações do modelo podem vir de qualquer thread: são agrupadas por vínculo e aplicadas ao componente
+ * na Event Dispatch Thread no máximo uma vez por quadro, apenas com o valor mais recente. Alterações feitas
+ * pelo usuário chegam ao modelo pelos eventos {@link EventType#CHANGE} (padrão) ou {@link EventType#INPUT}
+ * do componente. Eventos disparados enquanto o vínculo escreve no componente são ignorados.
+ *
+ * <pre>{@code
+ * Property<BigDecimal> total = new Property<>(BigDecimal.ZERO);
+ * Bindings.bind(total, currencyField);
+ * feed.onTick(tick -> total.set(tick.getTotal())); // qualquer thread
+ * }</pre>
+ */
+public final class Bindings {
+
+    private Bindings() {}
+
+    public static PropertyBinding bind(@NonNull Property<String> property, @NonNull MaskedTextField field) {
+        return bind(property, field, EventType.CHANGE);
+    }
+
+    public static PropertyBinding bind(@NonNull Property<String> property, @NonNull MaskedTextField field, @NonNull String eventType) {
+        return bind(property, field, eventType, field::getCleanText, text -> field.setCleanText(text != null ? text : ""));
+    }
+
+    public static PropertyBinding bind(@NonNull Property<BigDecimal> property, @NonNull CurrencyField field) {
+        return bind(property, field, EventType.CHANGE);
+    }
+
+    public static PropertyBinding bind(@NonNull Property<BigDecimal> property, @NonNull CurrencyField field, @NonNull String eventType) {
+        return bind(property, field, eventType, field::getValue, field::setValue);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PropertyBinding bind(@NonNull Property<T> property, @NonNull DropdownField field) {
+        return bind(property, field, EventType.CHANGE, () -> (T) field.getSelectedItem(), item -> {
+            if (item == null) field.setSelectedItem(null);
+            else field.select(item);
+        });
+    }
+
+    public static PropertyBinding bind(@NonNull Property<LocalDateTime> property, @NonNull DatePickerField field) {
+        return bind(property, field, EventType.CHANGE);
+    }
+
+    public static PropertyBinding bind(@NonNull Property<LocalDateTime> property, @NonNull DatePickerField field, @NonNull String eventType) {
+        return bind(property, field, eventType, field::getSelectedDateTime, field::setSelectedDateTime);
+    }
+
+    /**
+     * Vincula uma propriedade a qualquer componente que dispare eventos.
+     *
+     * @param property propriedade do modelo
+     * @param component componente vinculado
+     * @param eventType evento do componente que propaga a alteração para o modelo
+     * @param viewGetter leitura do valor atual do componente, chamada na Event Dispatch Thread
+     * @param viewSetter escrita do valor no componente, chamada na Event Dispatch Thread
+     * @param <T> tipo do valor
+     * @return vínculo que pode ser desfeito
+     */
+    public static <T> PropertyBinding bind(@NonNull Property<T> property, @NonNull EventListenerComponent component, @NonNull String eventType,
+                                           @NonNull Supplier<T> viewGetter, @NonNull Consumer<T> viewSetter) {
+        ComponentBinding<T> binding = new ComponentBinding<>(property, component, eventType, viewGetter, viewSetter);
+        component.addEventListner(eventType, binding.viewListener);
+        binding.observer = property.observe(value -> binding.onModelChanged());
+        binding.onModelChanged();
+        return binding;
+    }
+
+    private static final class ComponentBinding<T> implements PropertyBinding {
+        private final Property<T> property;
+        private final EventListenerComponent component;
+        private final String eventType;
+        private final Supplier<T> viewGetter;
+        private final Consumer<T> viewSetter;
+        private final Consumer<EventComponent> viewListener;
+        private PropertyBinding observer;
+        private volatile boolean bound;
+        private boolean updatingView;
+
+        private ComponentBinding(Property<T> property, EventListenerComponent component, String eventType,
+                                 Supplier<T> viewGetter, Consumer<T> viewSetter) {
+            this.property = property;
+            this.component = component;
+            this.eventType = eventType;
+            this.viewGetter = viewGetter;
+            this.viewSetter = viewSetter;
+            this.viewListener = event -> onViewChanged();
+            this.bound = true;
+        }
+
+        /**
+         * Agenda a atualização do componente. O valor é lido da propriedade no momento da aplicação, e não no
+         * momento da notificação, para que notificações concorrentes fora de ordem não deixem um valor antigo na tela.
+         */
+        private void onModelChanged() {
+            if (!bound) return;
+            FrameCoalescer.submit(this, this::updateView);
+        }
+
+        private void updateView() {
+            if (!bound) return;
+            T value = property.get();
+            if (Objects.equals(viewGetter.get(), value)) return;
+            updatingView = true;
+            try {
+                viewSetter.accept(value);
+            } finally {
+                updatingView = false;
+            }
+        }
+
+        private void onViewChanged() {
+            if (!bound || updatingView) return;
+            property.set(viewGetter.get());
+        }
+
+        @Override
+        public void unbind() {
+            bound = false;
+            FrameCoalescer.cancel(this);
+            if (observer != null) observer.unbind();
+            component.removeEventListner(eventType, viewListener);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package dtm.stools.component.binding;
+
+import lombok.NonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Valor observável do modelo, que pode ser vinculado a componentes com {@link Bindings}.
+ *
+ * <p>{@link #set(Object)} pode ser chamado de qualquer thread; os observadores são notificados na thread
+ * que alterou o valor e apenas quando o novo valor difere do atual.
+ *
+ * @param <T> tipo do valor
+ */
+public final class Property<T> {
+
+    private final List<Consumer<? super T>> observers;
+    private volatile T value;
+
+    public Property() {
+        this(null);
+    }
+
+    public Property(T initialValue) {
+        this.observers = new CopyOnWriteArrayList<>();
+        this.value = initialValue;
+    }
+
+    public T get() {
+        return value;
+    }
+
+    public void set(T newValue) {
+        synchronized (this) {
+            if (Objects.equals(value, newValue)) return;
+            value = newValue;
+        }
+        for (Consumer<? super T> observer : observers) {
+            try {
+                observer.accept(newValue);
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Registra um observador das alterações do valor.
+     *
+     * @param observer observador chamado com o novo valor
+     * @return vínculo que remove o observador
+     */
+    public PropertyBinding observe(@NonNull Consumer<? super T> observer) {
+        observers.add(observer);
+        return () -> observers.remove(observer);
+    }
+
+    @Override
+    public String toString() {
+        return "Property[" + value + "]";
+    }
+}
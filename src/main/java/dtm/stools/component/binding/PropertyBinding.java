@@ -0,0 +1,12 @@
+package dtm.stools.component.binding;
+
+/**
+ * Vínculo ativo entre uma {@link Property} e um observador ou componente.
+ */
+public interface PropertyBinding {
+
+    /**
+     * Desfaz o vínculo. Atualizações ainda não aplicadas ao componente são descartadas.
+     */
+    void unbind();
+}
@@ -29,6 +29,7 @@ public abstract class DelegatedViewPanel<T extends AbstractViewController<ViewPa
 
     @Override
     public void disposeController(){
+        if(controller != null) controller.unsubscribeAll();
         this.controller = null;
     }
 
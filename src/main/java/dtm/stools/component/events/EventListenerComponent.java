@@ -4,4 +4,14 @@ import java.util.function.Consumer;
 
 public interface EventListenerComponent {
     void addEventListner(String eventType, Consumer<EventComponent> event);
+
+    /**
+     * Remove um listener registrado com {@link #addEventListner(String, Consumer)}.
+     * A comparação é feita pela mesma instância de {@link Consumer} usada no registro.
+     * A implementação padrão não faz nada, para não quebrar componentes que ainda não a implementam.
+     *
+     * @param eventType tipo do evento
+     * @param event listener a ser removido
+     */
+    default void removeEventListner(String eventType, Consumer<EventComponent> event) {}
 }
@@ -3,6 +3,8 @@ package dtm.stools.component.grids;
 import dtm.stools.component.grids.model.ColumnDefinition;
 import dtm.stools.component.grids.model.ReflectionTableModel;
 import dtm.stools.component.inputfields.selectfield.DropdownField;
+import dtm.stools.internal.monitoring.jfr.GridRefreshEvent;
+import dtm.stools.internal.monitoring.jfr.JfrSupport;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -144,6 +146,9 @@ public class GridViewTable<T> extends DataTableListener {
             return;
         }
 
+        GridRefreshEvent event = new GridRefreshEvent();
+        event.begin();
+
         if (!paginationEnabled) {
             currentModel.setDataList(new ArrayList<>(this.fullDataList));
         } else {
@@ -173,6 +178,16 @@ public class GridViewTable<T> extends DataTableListener {
         }
 
         currentModel.fireTableDataChanged();
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.window = JfrSupport.windowOf(this);
+            event.modelClass = modelClass.getName();
+            event.totalItems = fullDataList.size();
+            event.pageItems = currentModel.getRowCount();
+            event.page = paginationEnabled ? currentPage : 0;
+            event.commit();
+        }
     }
 
     public void setPaginationEnabled(boolean paginationEnabled) {
@@ -0,0 +1,155 @@
+package dtm.stools.component.grids.model;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Gera os acessores de leitura e escrita de uma coluna, uma única vez por campo.
+ *
+ * <p>A leitura usa, nesta ordem, o acessor do componente de record, o getter público ({@code getX}/{@code isX})
+ * do mesmo tipo do campo ou o próprio campo. Métodos são ligados com {@link LambdaMetafactory}, gerando uma
+ * classe oculta que chama o método diretamente; campos sem método usam um {@link MethodHandle}. A escrita segue
+ * a mesma regra com o setter {@code setX}; componentes de record não têm escrita.
+ */
+final class ColumnAccessors {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private ColumnAccessors() {}
+
+    static Function<Object, Object> getter(Field field) {
+        Class<?> owner = field.getDeclaringClass();
+        Method method = owner.isRecord() ? recordAccessor(field) : findGetter(field);
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+            if (method != null) {
+                MethodHandle target = lookup.unreflect(method);
+                return bindFunction(lookup, target, owner, field.getType());
+            }
+            MethodHandle handle = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            return item -> invokeGetter(handle, item);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return item -> {
+                try {
+                    return field.get(item);
+                } catch (IllegalAccessException ex) {
+                    throw new IllegalStateException("Falha ao ler o campo '" + field.getName() + "'", ex);
+                }
+            };
+        }
+    }
+
+    static BiConsumer<Object, Object> setter(Field field) {
+        Class<?> owner = field.getDeclaringClass();
+        if (owner.isRecord()) return null;
+
+        Method method = findSetter(field);
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+            if (method != null) {
+                MethodHandle target = lookup.unreflect(method);
+                return bindBiConsumer(lookup, target, owner, field.getType());
+            }
+            MethodHandle handle = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+            return (item, value) -> invokeSetter(handle, item, value);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return (item, value) -> {
+                try {
+                    field.set(item, value);
+                } catch (IllegalAccessException ex) {
+                    throw new IllegalStateException("Falha ao escrever o campo '" + field.getName() + "'", ex);
+                }
+            };
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> bindFunction(MethodHandles.Lookup lookup, MethodHandle target, Class<?> owner, Class<?> type) {
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+                    GETTER_TYPE, target, MethodType.methodType(boxed(type), owner));
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Falha ao gerar o acessor de " + target, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> bindBiConsumer(MethodHandles.Lookup lookup, MethodHandle target, Class<?> owner, Class<?> type) {
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+                    SETTER_TYPE, target, MethodType.methodType(void.class, owner, boxed(type)));
+            return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Falha ao gerar o acessor de " + target, e);
+        }
+    }
+
+    private static Object invokeGetter(MethodHandle handle, Object item) {
+        try {
+            return handle.invokeExact(item);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void invokeSetter(MethodHandle handle, Object item, Object value) {
+        try {
+            handle.invokeExact(item, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Method recordAccessor(Field field) {
+        for (RecordComponent component : field.getDeclaringClass().getRecordComponents()) {
+            if (component.getName().equals(field.getName())) return component.getAccessor();
+        }
+        return null;
+    }
+
+    private static Method findGetter(Field field) {
+        String suffix = capitalize(field.getName());
+        Method getter = publicMethod(field.getDeclaringClass(), "get" + suffix);
+        if (getter == null && (field.getType() == boolean.class || field.getType() == Boolean.class)) {
+            getter = publicMethod(field.getDeclaringClass(), "is" + suffix);
+        }
+        return (getter != null && getter.getReturnType() == field.getType()) ? getter : null;
+    }
+
+    private static Method findSetter(Field field) {
+        return publicMethod(field.getDeclaringClass(), "set" + capitalize(field.getName()), field.getType());
+    }
+
+    private static Method publicMethod(Class<?> owner, String name, Class<?>... parameterTypes) {
+        try {
+            Method method = owner.getDeclaredMethod(name, parameterTypes);
+            int mods = method.getModifiers();
+            return (Modifier.isPublic(mods) && !Modifier.isStatic(mods)) ? method : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static String capitalize(String name) {
+        return name.substring(0, 1).toUpperCase() + name.substring(1);
+    }
+
+    private static Class<?> boxed(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+}
@@ -1,9 +1,12 @@
 package dtm.stools.component.grids.model;
 
 import dtm.stools.component.grids.annotations.GridColumn;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.lang.reflect.Field;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 @Getter
 public class ColumnDefinition {
@@ -13,6 +16,10 @@ public class ColumnDefinition {
     private final int width;
     private final boolean editable;
     private final boolean visible;
+    @Getter(AccessLevel.NONE)
+    private final Function<Object, Object> getter;
+    @Getter(AccessLevel.NONE)
+    private final BiConsumer<Object, Object> setter;
 
     public ColumnDefinition(Field field, GridColumn ann) {
         this.field = field;
@@ -28,6 +35,21 @@ public class ColumnDefinition {
         this.width = ann.width();
         this.editable = ann.editable();
         this.visible = ann.visible();
+        this.getter = ColumnAccessors.getter(field);
+        this.setter = ColumnAccessors.setter(field);
+    }
+
+    public Object getValue(Object item) {
+        return getter.apply(item);
+    }
+
+    public void setValue(Object item, Object value) {
+        if (setter == null) throw new UnsupportedOperationException("Coluna '" + name + "' não permite escrita");
+        setter.accept(item, value);
+    }
+
+    public boolean isWritable() {
+        return setter != null;
     }
 
 }
@@ -9,6 +9,21 @@ import java.util.*;
 import java.util.function.Supplier;
 
 public class ReflectionTableModel<T> extends AbstractTableModel {
+    private static final ClassValue<List<ColumnDefinition>> COLUMNS = new ClassValue<>() {
+        @Override
+        protected List<ColumnDefinition> computeValue(Class<?> type) {
+            List<ColumnDefinition> columns = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                if (field.isAnnotationPresent(GridColumn.class)) {
+                    GridColumn ann = field.getAnnotation(GridColumn.class);
+                    columns.add(new ColumnDefinition(field, ann));
+                }
+            }
+            columns.sort(Comparator.comparingInt(ColumnDefinition::getOrder));
+            return List.copyOf(columns);
+        }
+    };
+
     private final Map<CellKey, Object> referenceValueTableMap;
     private List<T> dataList;
     private final Class<T> clazz;
@@ -20,15 +35,7 @@ public class ReflectionTableModel<T> extends AbstractTableModel {
         this.clazz = clazz;
         this.allowEditGetter = allowEditGetter;
 
-        List<ColumnDefinition> tempCols = new ArrayList<>();
-        for (Field field : clazz.getDeclaredFields()) {
-            if (field.isAnnotationPresent(GridColumn.class)) {
-                GridColumn ann = field.getAnnotation(GridColumn.class);
-                tempCols.add(new ColumnDefinition(field, ann));
-            }
-        }
-        tempCols.sort(Comparator.comparingInt(ColumnDefinition::getOrder));
-        this.columns = tempCols;
+        this.columns = COLUMNS.get(clazz);
         this.referenceValueTableMap = Collections.synchronizedMap(new WeakHashMap<>());
     }
 
@@ -43,14 +50,13 @@ public class ReflectionTableModel<T> extends AbstractTableModel {
         try {
             if (columnIndex >= columns.size()) return;
             T item = dataList.get(rowIndex);
-            Field field = columns.get(columnIndex).getField();
-            field.setAccessible(true);
-            CellKey key = new CellKey(item, field);
+            ColumnDefinition column = columns.get(columnIndex);
+            CellKey key = new CellKey(item, column.getField());
             Object refObj = referenceValueTableMap.get(key);
             if (refObj instanceof DropdownField dropdown) {
                 return;
             }
-            field.set(item, aValue);
+            column.setValue(item, aValue);
             referenceValueTableMap.remove(key);
             fireTableCellUpdated(rowIndex, columnIndex);
 
@@ -100,7 +106,7 @@ public class ReflectionTableModel<T> extends AbstractTableModel {
     public boolean isCellEditable(int rowIndex, int columnIndex) {
         if (columnIndex >= columns.size()) return true;
         ColumnDefinition colDef = columns.get(columnIndex);
-        return allowEditGetter.get() && colDef.isEditable();
+        return allowEditGetter.get() && colDef.isEditable() && colDef.isWritable();
     }
 
     @SuppressWarnings("unchecked")
@@ -143,10 +149,10 @@ public class ReflectionTableModel<T> extends AbstractTableModel {
     public Object getValueAtItem(Object item, int columnIndex) throws IllegalAccessException {
         if (item == null) return null;
 
-        Field field = columns.get(columnIndex).getField();
-        Object value = field.get(item);
+        ColumnDefinition column = columns.get(columnIndex);
+        Object value = column.getValue(item);
 
-        CellKey key = new CellKey(item, field);
+        CellKey key = new CellKey(item, column.getField());
 
         return referenceValueTableMap.computeIfAbsent(key, k -> {
             if (value instanceof Collection<?> col) {
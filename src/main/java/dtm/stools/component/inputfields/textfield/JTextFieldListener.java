@@ -29,6 +29,14 @@ public class JTextFieldListener extends JTextField implements EventListenerCompo
         listeners.computeIfAbsent(eventType, k -> new CopyOnWriteArrayList<>()).add(event);
     }
 
+    @Override
+    public void removeEventListner(String eventType, Consumer<EventComponent> event) {
+        if(eventType == null || eventType.isEmpty()) return;
+
+        List<Consumer<EventComponent>> eventListeners = listeners.get(eventType);
+        if(eventListeners != null) eventListeners.remove(event);
+    }
+
     @Override
     public void addNotify() {
         super.addNotify();
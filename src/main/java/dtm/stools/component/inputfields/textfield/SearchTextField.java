@@ -1,6 +1,8 @@
 package dtm.stools.component.inputfields.textfield;
 
 import dtm.stools.component.events.EventType;
+import dtm.stools.internal.monitoring.jfr.JfrSupport;
+import dtm.stools.internal.monitoring.jfr.SearchQueryEvent;
 import lombok.Setter;
 
 import javax.swing.*;
@@ -254,12 +256,17 @@ public class SearchTextField<T> extends MaskedTextField{
     private List<T> search(String text) {
         if (text == null || text.isEmpty() || dataSources.isEmpty()) return Collections.emptyList();
 
+        SearchQueryEvent event = new SearchQueryEvent();
+        event.begin();
+
         String searchText = caseSensitive ? text : text.toLowerCase();
         List<T> results = new ArrayList<>();
+        int candidates = 0;
 
         synchronized (dataSources) {
             for (T item : dataSources) {
                 if (results.size() >= maxResults.get()) break;
+                candidates++;
 
                 for (Function<T, String> fn : searchOptions) {
                     String value = fn.apply(item);
@@ -278,6 +285,15 @@ public class SearchTextField<T> extends MaskedTextField{
             results.sort(sortComparator);
         }
 
+        event.end();
+        if (event.shouldCommit()) {
+            event.window = JfrSupport.windowOf(this);
+            event.queryLength = text.length();
+            event.candidates = candidates;
+            event.results = results.size();
+            event.commit();
+        }
+
         return results;
     }
 
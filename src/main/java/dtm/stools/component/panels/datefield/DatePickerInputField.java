@@ -852,4 +852,15 @@ public class DatePickerInputField extends PanelEventListener implements DatePick
             textField.addEventListner(EventType.INPUT, event);
         }
     }
+
+    @Override
+    public void removeEventListner(String eventType, Consumer<EventComponent> event) {
+        if(eventType == null || eventType.isEmpty()) return;
+
+        if(eventType.equals(EventType.INPUT)){
+            textField.removeEventListner(EventType.INPUT, event);
+        }else{
+            super.removeEventListner(eventType, event);
+        }
+    }
 }
\ No newline at end of file
@@ -9,6 +9,8 @@ import dtm.stools.component.panels.filepicker.models.FileWrapperTableModel;
 import dtm.stools.component.panels.filepicker.renderers.*;
 import dtm.stools.component.panels.filepicker.utils.FileTreeNode;
 import dtm.stools.component.panels.filepicker.utils.FileWrapper;
+import dtm.stools.internal.monitoring.jfr.DirectoryListingEvent;
+import dtm.stools.internal.monitoring.jfr.JfrSupport;
 import lombok.Getter;
 
 import javax.swing.*;
@@ -856,6 +858,9 @@ public class FilePickerInputPanel extends PanelEventListener {
         updateTreeSelection(absolutePath);
 
         executor.submit(() -> {
+            DirectoryListingEvent event = new DirectoryListingEvent();
+            event.begin();
+
             List<FileWrapper> wrappers = new ArrayList<>();
             try (DirectoryStream<Path> stream = Files.newDirectoryStream(absolutePath)) {
                 for (Path p : stream) {
@@ -884,6 +889,14 @@ public class FilePickerInputPanel extends PanelEventListener {
                 return f1.getName().compareToIgnoreCase(f2.getName());
             });
 
+            event.end();
+            if (event.shouldCommit()) {
+                event.window = JfrSupport.windowOf(this);
+                event.path = absolutePath.toString();
+                event.entries = wrappers.size();
+                event.commit();
+            }
+
             SwingUtilities.invokeLater(() -> {
                 tableModel.setFiles(wrappers);
                 listFileViewModel.clear();
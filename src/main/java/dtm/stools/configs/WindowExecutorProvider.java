@@ -0,0 +1,25 @@
+package dtm.stools.configs;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Fornece o executor compartilhado utilizado pelas janelas e painéis do framework.
+ *
+ * <p>Cada janela recebe apenas uma visão leve sobre o executor retornado aqui,
+ * de forma que a quantidade de threads da aplicação não cresce com o número de janelas abertas.
+ * O executor só é obtido quando a primeira tarefa é efetivamente submetida.
+ */
+public interface WindowExecutorProvider {
+
+    /**
+     * Retorna o executor compartilhado, criando-o caso ainda não exista.
+     *
+     * @return executor compartilhado entre as janelas
+     */
+    ExecutorService getExecutor();
+
+    /**
+     * Encerra o executor compartilhado, se ele já tiver sido criado.
+     */
+    void shutdown();
+}
@@ -0,0 +1,190 @@
+package dtm.stools.context;
+
+import dtm.stools.internal.window.EdtIdleScheduler;
+import lombok.NonNull;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pool de janelas pré-construídas para telas abertas e fechadas com frequência.
+ *
+ * <p>As janelas do pool são construídas uma única vez ({@code prepare()}) e mantidas ocultas.
+ * Ao chamar {@code dispose()} em uma janela obtida via {@link #acquire()}, ela é apenas ocultada
+ * e devolvida ao pool, preservando o executor e o índice do DOM. Janelas ociosas não aparecem
+ * na pilha do {@link WindowContext}.
+ *
+ * <p>Ciclo de vida:
+ * <ul>
+ *     <li>{@link IWindow#onRecycle()} é chamado quando uma janela ociosa é entregue por {@link #acquire()};</li>
+ *     <li>{@link IWindow#onReset()} é chamado quando a janela retorna ao pool.</li>
+ * </ul>
+ *
+ * @param <T> o tipo da janela
+ */
+public final class ActivityPool<T extends IWindow> {
+
+    private static final Map<IWindow, ActivityPool<?>> leasedWindows = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Supplier<T> factory;
+    private final int capacity;
+    private final Deque<T> idleWindows;
+    private final AtomicInteger idleCount;
+    private final AtomicBoolean closed;
+
+    /**
+     * Cria um pool de janelas.
+     *
+     * @param factory fábrica utilizada para construir novas janelas
+     * @param capacity quantidade máxima de janelas ociosas mantidas pelo pool
+     */
+    public ActivityPool(@NonNull Supplier<T> factory, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("A capacidade do pool deve ser maior que 0");
+        }
+        this.factory = factory;
+        this.capacity = capacity;
+        this.idleWindows = new ConcurrentLinkedDeque<>();
+        this.idleCount = new AtomicInteger(0);
+        this.closed = new AtomicBoolean(false);
+    }
+
+    /**
+     * Constrói, na Event Dispatch Thread, janelas ocultas até atingir a capacidade do pool.
+     * Cada janela é construída em uma fatia ociosa separada para não bloquear a interface.
+     *
+     * @return este pool
+     */
+    public ActivityPool<T> prefill() {
+        int missing = capacity - idleCount.get();
+        for (int i = 0; i < missing; i++) {
+            EdtIdleScheduler.schedule(() -> {
+                if (closed.get() || !reserveSlot()) return;
+                T window;
+                try {
+                    window = factory.get();
+                    WindowContext.removeWindow(window);
+                    window.prepare();
+                } catch (RuntimeException e) {
+                    idleCount.decrementAndGet();
+                    throw e;
+                }
+                idleWindows.offerLast(window);
+                if (discardIfClosed(window)) window.dispose();
+            });
+        }
+        return this;
+    }
+
+    /**
+     * Obtém uma janela do pool, construindo uma nova caso não haja janelas ociosas.
+     * A janela retornada é recolocada na pilha do {@link WindowContext} e deve ser exibida com {@code init()}.
+     *
+     * @return a janela pronta para uso
+     */
+    public T acquire() {
+        if (closed.get()) {
+            throw new IllegalStateException("ActivityPool já foi encerrado");
+        }
+
+        T window = idleWindows.pollFirst();
+        if (window != null) {
+            idleCount.decrementAndGet();
+            WindowContext.pushWindow(window);
+            window.onRecycle();
+        } else {
+            window = factory.get();
+        }
+
+        leasedWindows.put(window, this);
+        return window;
+    }
+
+    /**
+     * Retorna a quantidade de janelas ociosas no pool.
+     *
+     * @return número de janelas ociosas
+     */
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+
+    /**
+     * Retorna a quantidade máxima de janelas ociosas mantidas pelo pool.
+     *
+     * @return capacidade do pool
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Encerra o pool, descartando definitivamente as janelas ociosas.
+     * Janelas já entregues serão descartadas normalmente no próximo {@code dispose()}.
+     */
+    public void close() {
+        if (!closed.compareAndSet(false, true)) return;
+        T window;
+        while ((window = idleWindows.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            window.dispose();
+        }
+    }
+
+    /**
+     * Devolve uma janela ao pool de origem. Chamado pelas janelas no {@code dispose()}.
+     *
+     * @param window a janela sendo descartada
+     * @param resetAction ação interna da janela executada antes de ela voltar ao pool
+     * @return {@code true} se a janela foi devolvida ao pool e não deve ser descartada
+     */
+    public static boolean recycle(@NonNull IWindow window, @NonNull Runnable resetAction) {
+        ActivityPool<?> pool = leasedWindows.remove(window);
+        return pool != null && pool.giveBack(window, resetAction);
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean giveBack(IWindow window, Runnable resetAction) {
+        if (closed.get() || !reserveSlot()) return false;
+
+        try {
+            resetAction.run();
+            window.setVisible(false);
+            window.onReset();
+            WindowContext.removeWindow(window);
+        } catch (RuntimeException e) {
+            idleCount.decrementAndGet();
+            throw e;
+        }
+        idleWindows.offerFirst((T) window);
+        return !discardIfClosed((T) window);
+    }
+
+    /**
+     * Reserva uma vaga de janela ociosa. A contagem é incrementada antes de a janela entrar na fila, de modo que
+     * devoluções concorrentes nunca ultrapassem a capacidade do pool.
+     */
+    private boolean reserveSlot() {
+        int current;
+        do {
+            current = idleCount.get();
+            if (current >= capacity) return false;
+        } while (!idleCount.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Retira da fila uma janela que entrou depois de um {@link #close()} concorrente, que já não a descartaria.
+     */
+    private boolean discardIfClosed(T window) {
+        if (!closed.get() || !idleWindows.remove(window)) return false;
+        idleCount.decrementAndGet();
+        return true;
+    }
+}
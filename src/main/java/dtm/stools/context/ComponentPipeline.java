@@ -0,0 +1,217 @@
+package dtm.stools.context;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Construção em paralelo de seções da interface, para uso dentro de {@code onDrawing()}.
+ *
+ * <p>Cada seção é construída em uma thread do executor da janela e deve apenas criar componentes
+ * destacados (ainda não adicionados a nenhum container exibível), sem acessar componentes já visíveis
+ * nem chamar {@code SwingUtilities.invokeAndWait}. Após a conclusão de todas as seções, os componentes
+ * são anexados ao container de destino em um único passo, na ordem em que as seções foram declaradas,
+ * e o layout é validado apenas uma vez ao final.
+ *
+ * <pre>{@code
+ * ComponentPipeline.Report report = newComponentPipeline()
+ *         .section("cabecalho", this::buildHeader, BorderLayout.NORTH)
+ *         .section("formulario", this::buildForm, BorderLayout.CENTER)
+ *         .build();
+ * }</pre>
+ */
+public final class ComponentPipeline {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final long POLL_MILLIS = 50;
+
+    private final Container target;
+    private final Executor executor;
+    private final List<Section<?>> sections;
+
+    public ComponentPipeline(@NonNull Container target, @NonNull Executor executor) {
+        this.target = target;
+        this.executor = executor;
+        this.sections = new ArrayList<>();
+    }
+
+    /**
+     * Adiciona uma seção que será anexada ao container de destino com as restrições de layout informadas.
+     *
+     * @param name nome da seção, usado no relatório
+     * @param builder construtor do componente, executado fora da Event Dispatch Thread
+     * @param constraints restrições de layout (ex.: {@code BorderLayout.CENTER}), ou {@code null}
+     * @return este pipeline
+     */
+    public ComponentPipeline section(String name, Supplier<? extends Component> builder, Object constraints) {
+        return section(name, builder, (container, component) -> container.add(component, constraints));
+    }
+
+    /**
+     * Adiciona uma seção com uma ação de anexação personalizada.
+     *
+     * @param name nome da seção, usado no relatório
+     * @param builder construtor do componente, executado fora da Event Dispatch Thread
+     * @param attach ação que anexa o componente construído ao container de destino
+     * @param <C> tipo do componente
+     * @return este pipeline
+     */
+    public <C extends Component> ComponentPipeline section(@NonNull String name, @NonNull Supplier<C> builder, @NonNull BiConsumer<Container, C> attach) {
+        sections.add(new Section<>(name, builder, attach));
+        return this;
+    }
+
+    /**
+     * Constrói as seções em paralelo, aguarda todas e as anexa ao container de destino.
+     * A anexação ocorre na thread chamadora, a mesma em que o {@code onDrawing()} está sendo executado.
+     *
+     * <p>Se o executor da janela for desligado durante a construção (por exemplo porque a janela foi descartada),
+     * as seções pendentes nunca seriam executadas: a espera é interrompida, as seções restantes são canceladas e
+     * nada é anexado.
+     *
+     * @return relatório com os tempos de construção e o tempo economizado
+     * @throws CancellationException se o executor foi desligado ou a thread interrompida antes da conclusão
+     */
+    public Report build() {
+        long buildStart = System.nanoTime();
+        List<CompletableFuture<?>> futures = new ArrayList<>(sections.size());
+        try {
+            for (Section<?> section : sections) {
+                futures.add(CompletableFuture.runAsync(section::construct, executor));
+            }
+        } catch (RejectedExecutionException e) {
+            cancel(futures);
+            throw e;
+        }
+
+        await(CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)), futures);
+        long buildEnd = System.nanoTime();
+
+        for (Section<?> section : sections) {
+            section.attach(target);
+        }
+        target.revalidate();
+        long attachEnd = System.nanoTime();
+
+        Map<String, Double> sectionMillis = new LinkedHashMap<>();
+        long sequentialNanos = 0;
+        for (Section<?> section : sections) {
+            sequentialNanos += section.elapsedNanos;
+            sectionMillis.put(section.name, section.elapsedNanos / NANOS_PER_MILLI);
+        }
+
+        return new Report(
+                Collections.unmodifiableMap(sectionMillis),
+                sequentialNanos / NANOS_PER_MILLI,
+                (buildEnd - buildStart) / NANOS_PER_MILLI,
+                (attachEnd - buildEnd) / NANOS_PER_MILLI
+        );
+    }
+
+    private void await(CompletableFuture<Void> all, List<CompletableFuture<?>> futures) {
+        try {
+            while (true) {
+                try {
+                    all.get(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    return;
+                } catch (TimeoutException e) {
+                    if (isExecutorShutdown() && !all.isDone()) {
+                        cancel(futures);
+                        throw new CancellationException("Executor da janela foi desligado durante a construção das seções");
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(futures);
+            throw new CancellationException("Construção das seções interrompida");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            throw new RuntimeException("Erro na construção das seções da interface", cause);
+        }
+    }
+
+    private boolean isExecutorShutdown() {
+        return executor instanceof ExecutorService service && service.isShutdown();
+    }
+
+    private static void cancel(List<CompletableFuture<?>> futures) {
+        for (CompletableFuture<?> future : futures) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Tempos de uma execução do pipeline, em milissegundos.
+     */
+    @Getter
+    public static final class Report {
+        private final Map<String, Double> sectionMillis;
+        private final double sequentialMillis;
+        private final double parallelMillis;
+        private final double attachMillis;
+
+        private Report(Map<String, Double> sectionMillis, double sequentialMillis, double parallelMillis, double attachMillis) {
+            this.sectionMillis = sectionMillis;
+            this.sequentialMillis = sequentialMillis;
+            this.parallelMillis = parallelMillis;
+            this.attachMillis = attachMillis;
+        }
+
+        /**
+         * Tempo economizado em relação à construção sequencial das mesmas seções.
+         *
+         * @return diferença entre a soma dos tempos das seções e o tempo de construção em paralelo
+         */
+        public double getSavedMillis() {
+            return sequentialMillis - parallelMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ComponentPipeline: %d seção(ões), sequencial %.2f ms, paralelo %.2f ms, anexação %.2f ms, economia %.2f ms",
+                    sectionMillis.size(), sequentialMillis, parallelMillis, attachMillis, getSavedMillis());
+        }
+    }
+
+    private static final class Section<C extends Component> {
+        private final String name;
+        private final Supplier<C> builder;
+        private final BiConsumer<Container, C> attachAction;
+        private C component;
+        private long elapsedNanos;
+
+        private Section(String name, Supplier<C> builder, BiConsumer<Container, C> attachAction) {
+            this.name = name;
+            this.builder = builder;
+            this.attachAction = attachAction;
+        }
+
+        private void construct() {
+            long start = System.nanoTime();
+            component = builder.get();
+            elapsedNanos = System.nanoTime() - start;
+        }
+
+        private void attach(Container target) {
+            if (component != null) attachAction.accept(target, component);
+        }
+    }
+}
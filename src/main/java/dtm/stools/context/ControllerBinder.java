@@ -0,0 +1,67 @@
+package dtm.stools.context;
+
+import lombok.NonNull;
+
+import java.awt.Component;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Injetor dos campos {@code @ViewRef} e {@code @ClientRef} de uma classe de controller.
+ *
+ * <p>Implementações são geradas em tempo de compilação pelo processador de anotações do módulo
+ * {@code SwingTools-processor}, com o nome {@code <classe do controller>$$Binder} no mesmo pacote.
+ * Quando não há injetor gerado para a classe, o binding é feito por reflexão.
+ */
+public interface ControllerBinder {
+    String SUFFIX = "$$Binder";
+
+    /**
+     * Injeta os campos do controller.
+     *
+     * @param controller instância do controller
+     * @param window janela do controller
+     * @param subscriptions recebe as inscrições pendentes dos campos {@code @ViewRef(lazy = true)}, para que sejam
+     *                      canceladas junto com as demais inscrições do controller
+     */
+    void bind(Object controller, IWindow window, Consumer<? super ElementSubscription> subscriptions);
+    int size();
+
+    /**
+     * Atribui o componente com o ID quando ele for anexado ao índice do DOM, sem forçar o carregamento.
+     * Usado pelos campos {@code @ViewRef(lazy = true)}.
+     *
+     * <p>A resolução é dirigida pela anexação e não pelo acesso ao campo: até o componente ser anexado o campo
+     * permanece {@code null}. Se o componente já estiver no índice, ele é atribuído durante a inscrição. Depois da
+     * primeira atribuição a inscrição é cancelada; remoções e novas anexações do mesmo ID não alteram o campo.
+     * Se a janela não oferecer inscrições, o componente é resolvido imediatamente.
+     *
+     * @param window janela do controller
+     * @param id ID do componente
+     * @param type tipo do campo; componentes de outro tipo são ignorados
+     * @param assign atribuição do campo
+     * @param <T> tipo do componente
+     * @return a inscrição, que pode ser cancelada antes da atribuição; nunca {@code null}
+     */
+    static <T> ElementSubscription bindOnAttach(@NonNull IWindow window, @NonNull String id, @NonNull Class<T> type, @NonNull Consumer<? super T> assign) {
+        AtomicBoolean assigned = new AtomicBoolean();
+        AtomicReference<ElementSubscription> self = new AtomicReference<>();
+        ElementSubscription subscription = window.onElementAttached(id, component -> {
+            if (!type.isInstance(component) || !assigned.compareAndSet(false, true)) return;
+            assign.accept(type.cast(component));
+            ElementSubscription current = self.get();
+            if (current != null) current.unsubscribe();
+        });
+
+        if (subscription == null) {
+            Component component = window.findById(id);
+            if (type.isInstance(component)) assign.accept(type.cast(component));
+            return () -> {};
+        }
+
+        self.set(subscription);
+        if (assigned.get()) subscription.unsubscribe();
+        return subscription;
+    }
+}
@@ -3,7 +3,9 @@ package dtm.stools.context;
 import java.awt.*;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 public interface DomElementLoader {
     void load();
@@ -12,5 +14,14 @@ public interface DomElementLoader {
     boolean isLoad();
     boolean isInitialized();
     Map<String, List<Component>> getDomElements();
+    List<Component> getElementsById(String id);
+    List<Component> findElementsById(String id);
+    CompletableFuture<List<Component>> findElementsByIdAsync(String id);
     Future<Void> getLoadAction();
+    <T extends Component> T[] getElementsByType(Class<T> type);
+    List<Component> querySelectorAll(String selector);
+    Component querySelector(String selector);
+    ElementSubscription onElementAttached(String id, Consumer<Component> listener);
+    ElementSubscription onElementDetached(String id, Consumer<Component> listener);
+    void updateScope();
 }
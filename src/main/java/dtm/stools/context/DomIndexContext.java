@@ -0,0 +1,130 @@
+package dtm.stools.context;
+
+import dtm.stools.context.enums.DomTraversalStrategy;
+import lombok.NonNull;
+
+import java.awt.*;
+import java.util.function.Predicate;
+
+/**
+ * Configuração global da indexação do DOM das janelas e painéis.
+ *
+ * <p>Por padrão as janelas indexam todos os componentes, inclusive os sem nome (com chaves no formato
+ * {@code JLabel@1a2b3c}), e os painéis que mantêm um índice próprio indexam apenas os componentes com nome,
+ * como antes da indexação incremental; todas as entradas são mantidas por referências fortes. Os filtros
+ * limitam apenas o índice por nome: o índice por tipo, usado por {@code findAllByType} e pelos seletores por
+ * tipo, sempre contém todos os componentes. Painéis que compartilham o índice da janela usam o filtro da janela.
+ * As alterações valem para as cargas seguintes; índices já carregados passam a usá-las no próximo
+ * {@code reloadDomElements()}.
+ *
+ * <p>A estratégia de percurso definida aqui pode ser sobrescrita por janela ou painel com
+ * {@link dtm.stools.context.annotations.DomTraversal}.
+ */
+public final class DomIndexContext {
+
+    private static final Predicate<Component> ALL = component -> true;
+    private static final Predicate<Component> NAMED_ONLY = component -> {
+        String name = component.getName();
+        return name != null && !name.isBlank();
+    };
+
+    private static volatile Predicate<Component> filter = ALL;
+    private static volatile Predicate<Component> panelFilter = NAMED_ONLY;
+    private static volatile boolean weakReferences = false;
+    private static volatile DomTraversalStrategy traversalStrategy = DomTraversalStrategy.SEQUENTIAL;
+    private static volatile boolean sharedPanelIndex = true;
+
+    private DomIndexContext() {}
+
+    /**
+     * Define quais componentes entram no índice por nome. Componentes rejeitados continuam sendo percorridos,
+     * de forma que descendentes aceitos ainda são indexados, e continuam no índice por tipo.
+     *
+     * @param indexFilter predicado aplicado a cada componente
+     */
+    public static void setFilter(@NonNull Predicate<Component> indexFilter) {
+        filter = indexFilter;
+    }
+
+    public static Predicate<Component> getFilter() {
+        return filter;
+    }
+
+    /**
+     * Define quais componentes entram no índice por nome próprio de painéis ({@code ViewPanel} e derivados).
+     * O padrão é indexar apenas componentes com nome; o índice por tipo do painel contém todos os componentes.
+     *
+     * @param indexFilter predicado aplicado a cada componente do painel
+     */
+    public static void setPanelFilter(@NonNull Predicate<Component> indexFilter) {
+        panelFilter = indexFilter;
+    }
+
+    public static Predicate<Component> getPanelFilter() {
+        return panelFilter;
+    }
+
+    /**
+     * Faz os painéis com índice próprio indexarem também os componentes sem nome. Em painéis que recebem
+     * muitos componentes anônimos em tempo de execução cada um gera uma chave própria no índice.
+     */
+    public static void indexAllPanelComponents() {
+        setPanelFilter(ALL);
+    }
+
+    /**
+     * Indexa todos os componentes das janelas (padrão).
+     */
+    public static void indexAll() {
+        setFilter(ALL);
+    }
+
+    /**
+     * Indexa apenas componentes com nome, em janelas e painéis, evitando gerar chaves para componentes anônimos.
+     */
+    public static void indexNamedOnly() {
+        setFilter(NAMED_ONLY);
+        setPanelFilter(NAMED_ONLY);
+    }
+
+    /**
+     * Mantém as entradas do índice por referências fracas, removidas automaticamente quando o componente
+     * é coletado. Nesse modo as consultas montam o resultado a cada chamada em vez de devolver listas prontas.
+     *
+     * @param enabled {@code true} para usar referências fracas
+     */
+    public static void setWeakReferences(boolean enabled) {
+        weakReferences = enabled;
+    }
+
+    public static boolean isWeakReferences() {
+        return weakReferences;
+    }
+
+    /**
+     * Define a estratégia de percurso padrão da carga completa.
+     *
+     * @param strategy estratégia usada pelas janelas sem {@link dtm.stools.context.annotations.DomTraversal}
+     */
+    public static void setTraversalStrategy(@NonNull DomTraversalStrategy strategy) {
+        traversalStrategy = strategy;
+    }
+
+    public static DomTraversalStrategy getTraversalStrategy() {
+        return traversalStrategy;
+    }
+
+    /**
+     * Define se painéis criados a partir de agora compartilham o índice da janela ou painel que os contém,
+     * em vez de indexar novamente a própria subárvore. Habilitado por padrão.
+     *
+     * @param enabled {@code false} para que cada painel mantenha um índice próprio
+     */
+    public static void setSharedPanelIndex(boolean enabled) {
+        sharedPanelIndex = enabled;
+    }
+
+    public static boolean isSharedPanelIndex() {
+        return sharedPanelIndex;
+    }
+}
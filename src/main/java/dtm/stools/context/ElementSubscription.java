@@ -0,0 +1,12 @@
+package dtm.stools.context;
+
+/**
+ * Inscrição em eventos de anexação ou remoção de elementos do DOM.
+ */
+public interface ElementSubscription {
+
+    /**
+     * Cancela a inscrição. Chamadas repetidas não têm efeito.
+     */
+    void unsubscribe();
+}
@@ -0,0 +1,55 @@
+package dtm.stools.context;
+
+import dtm.stools.context.enums.DeliveryPolicy;
+import dtm.stools.context.enums.OverflowStrategy;
+import dtm.stools.internal.event.TypedEventBus;
+import lombok.NonNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Barramento de eventos tipados entre controllers de janelas, diálogos e painéis.
+ *
+ * <p>{@link #publish(Object)} apenas enfileira o evento para cada assinante cujo tipo seja compatível
+ * com a classe do evento (incluindo superclasses e interfaces) e retorna; cada assinante consome sua
+ * própria fila limitada na thread definida pela sua {@link DeliveryPolicy}.
+ *
+ * <pre>{@code
+ * EventBus.getDefault().subscribe(PedidoSalvo.class, DeliveryPolicy.EDT, e -> atualizarLista(e.pedido()));
+ * EventBus.getDefault().publish(new PedidoSalvo(pedido));
+ * }</pre>
+ */
+public interface EventBus {
+    int DEFAULT_CAPACITY = 1024;
+
+    void publish(@NonNull Object event);
+
+    /**
+     * Assina eventos do tipo informado, entregues na Event Dispatch Thread.
+     */
+    default <E> EventSubscription subscribe(@NonNull Class<E> type, @NonNull Consumer<? super E> handler) {
+        return subscribe(type, DeliveryPolicy.EDT, handler);
+    }
+
+    default <E> EventSubscription subscribe(@NonNull Class<E> type, @NonNull DeliveryPolicy policy, @NonNull Consumer<? super E> handler) {
+        return subscribe(type, policy, DEFAULT_CAPACITY, OverflowStrategy.DROP_OLDEST, handler);
+    }
+
+    /**
+     * Assina eventos do tipo informado.
+     *
+     * @param type classe dos eventos; subclasses também são entregues
+     * @param policy thread de entrega
+     * @param capacity tamanho máximo da fila do assinante
+     * @param overflow comportamento quando a fila está cheia
+     * @param handler consumidor dos eventos
+     * @param <E> tipo do evento
+     * @return assinatura que pode ser cancelada
+     */
+    <E> EventSubscription subscribe(@NonNull Class<E> type, @NonNull DeliveryPolicy policy, int capacity,
+                                    @NonNull OverflowStrategy overflow, @NonNull Consumer<? super E> handler);
+
+    static EventBus getDefault() {
+        return TypedEventBus.DEFAULT;
+    }
+}
@@ -0,0 +1,19 @@
+package dtm.stools.context;
+
+/**
+ * Assinatura de um tipo de evento no {@link EventBus}.
+ */
+public interface EventSubscription {
+
+    /**
+     * Cancela a assinatura. Eventos ainda na fila do assinante são descartados.
+     */
+    void unsubscribe();
+
+    boolean isActive();
+
+    /**
+     * @return quantidade de eventos descartados por fila cheia
+     */
+    long getDroppedCount();
+}
@@ -4,12 +4,14 @@ import lombok.NonNull;
 import javax.swing.SwingUtilities;
 import java.awt.Component;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.Map;
 import java.util.function.Consumer;
 
 @SuppressWarnings("unchecked")
 public interface IWindow {
     void init();
+    default void prepare(){};
     void dispose();
     boolean isDisplayable();
     void setVisible(boolean visibility);
@@ -21,8 +23,19 @@ public interface IWindow {
 
     default <T extends Component> T findById(@NonNull String id){return null;};
     default <T extends Component> List<T> findAllById(@NonNull String id){return null;};
+    default <T extends Component> CompletableFuture<T> findByIdAsync(@NonNull String id){return null;};
+    default ElementSubscription onElementAttached(@NonNull String id, @NonNull Consumer<Component> listener){return null;};
+    default ElementSubscription onElementDetached(@NonNull String id, @NonNull Consumer<Component> listener){return null;};
+    default <T extends Component> T[] findAllByType(@NonNull Class<T> type){return null;};
+    default <T extends Component> T findFirstByType(@NonNull Class<T> type){return null;};
+    default <T extends Component> T querySelector(@NonNull String selector){return null;};
+    default <T extends Component> List<T> querySelectorAll(@NonNull String selector){return null;};
     default <T extends IWindow> void runOnUi(Consumer<T> action){SwingUtilities.invokeLater(() -> action.accept((T)this));}
     void reloadDomElements();
 
     default WindowExecutor getWindowExecutor(){return null;};
+    default TaskScope getTaskScope(){return null;};
+
+    default void onRecycle(){};
+    default void onReset(){};
 }
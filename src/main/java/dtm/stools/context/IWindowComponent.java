@@ -3,9 +3,19 @@ package dtm.stools.context;
 import lombok.NonNull;
 import java.awt.Component;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface IWindowComponent {
     default <T extends Component> T findById(@NonNull String id){return null;};
     default <T extends Component> List<T> findAllById(@NonNull String id){return null;};
+    default <T extends Component> CompletableFuture<T> findByIdAsync(@NonNull String id){return null;};
+    default ElementSubscription onElementAttached(@NonNull String id, @NonNull Consumer<Component> listener){return null;};
+    default ElementSubscription onElementDetached(@NonNull String id, @NonNull Consumer<Component> listener){return null;};
+    default <T extends Component> T[] findAllByType(@NonNull Class<T> type){return null;};
+    default <T extends Component> T findFirstByType(@NonNull Class<T> type){return null;};
+    default <T extends Component> T querySelector(@NonNull String selector){return null;};
+    default <T extends Component> List<T> querySelectorAll(@NonNull String selector){return null;};
     void reloadDomElements();
+    default TaskScope getTaskScope(){return null;};
 }
@@ -1,6 +1,7 @@
 package dtm.stools.context;
 
 import dtm.stools.activity.NotificationActivity;
+import dtm.stools.internal.monitoring.jfr.NotificationRearrangeEvent;
 import dtm.stools.internal.wrapper.ConcurrentWeakReferenceDeque;
 import dtm.stools.internal.wrapper.ConcurrentWeakReferenceQueue;
 import lombok.NonNull;
@@ -110,7 +111,10 @@ public final class NotificationManager {
 
     private static void rearrangeNotifications() {
         SwingUtilities.invokeLater(() -> {
+            NotificationRearrangeEvent event = new NotificationRearrangeEvent();
+            event.begin();
             int gap = NotificationManager.gap.get();
+            int notifications = 0;
 
             Map<NotificationActivity.NotificationActivityLocation, List<NotificationActivity>> grouped =
                     notificationActivities.stream()
@@ -124,8 +128,16 @@ public final class NotificationManager {
                 for (NotificationActivity notification : list) {
                     notification.positionWindow(offset);
                     offset += notification.getHeight() + gap;
+                    notifications++;
                 }
             }
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.notifications = notifications;
+                event.locations = grouped.size();
+                event.commit();
+            }
         });
     }
 
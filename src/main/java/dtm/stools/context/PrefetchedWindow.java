@@ -0,0 +1,131 @@
+package dtm.stools.context;
+
+import dtm.stools.internal.window.EdtIdleScheduler;
+
+import java.lang.ref.SoftReference;
+import java.util.function.Supplier;
+
+/**
+ * Janela construída antecipadamente por {@link WindowContext#prefetch(Supplier)}.
+ *
+ * <p>A construção e o {@code prepare()} são executados em fatias ociosas da Event Dispatch Thread,
+ * enquanto a indexação do DOM segue no executor da janela. A janela pré-construída é mantida por
+ * uma {@link SoftReference}, podendo ser descartada pelo coletor sob pressão de memória; nesse caso
+ * ela é reconstruída em {@link #get()}.
+ *
+ * <p>Para que o descarte seja possível, o {@code prepare()} não pode registrar a janela fora dela mesma: a janela
+ * é retirada da pilha do {@link WindowContext} até ser entregue, e o ícone de bandeja sempre visível de uma
+ * {@code Activity} só é adicionado no {@code init()}. Uma janela descartada pelo coletor não tem, portanto,
+ * recursos a liberar; uma janela cancelada ainda alcançável é descartada com {@code dispose()}.
+ *
+ * @param <T> o tipo da janela
+ */
+public final class PrefetchedWindow<T extends IWindow> {
+
+    private final Supplier<T> supplier;
+    private T constructing;
+    private SoftReference<T> prepared;
+    private T delivered;
+    private boolean cancelled;
+
+    PrefetchedWindow(Supplier<T> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * Retorna a janela, reconstruindo-a caso ainda não esteja pronta ou tenha sido descartada.
+     * A janela é recolocada na pilha do {@link WindowContext}; basta chamar {@code init()} para exibi-la.
+     *
+     * @return a janela pronta para exibição
+     * @throws IllegalStateException se a pré-construção foi cancelada
+     */
+    public synchronized T get() {
+        if (cancelled) {
+            throw new IllegalStateException("A pré-construção da janela foi cancelada");
+        }
+        if (delivered != null) return delivered;
+
+        T window = (prepared != null) ? prepared.get() : null;
+        if (window == null) window = constructing;
+
+        if (window == null) {
+            window = supplier.get();
+        } else {
+            WindowContext.pushWindow(window);
+        }
+        window.prepare();
+
+        constructing = null;
+        prepared = null;
+        delivered = window;
+        return window;
+    }
+
+    /**
+     * Obtém a janela e a exibe.
+     */
+    public void init() {
+        get().init();
+    }
+
+    /**
+     * Cancela a pré-construção, descartando a janela caso ela já tenha sido construída.
+     *
+     * @return {@code true} se a pré-construção foi cancelada; {@code false} se a janela já foi entregue
+     */
+    public synchronized boolean cancel() {
+        if (delivered != null) return false;
+        if (cancelled) return true;
+
+        cancelled = true;
+        T window = (prepared != null) ? prepared.get() : constructing;
+        constructing = null;
+        prepared = null;
+        if (window != null) window.dispose();
+        return true;
+    }
+
+    /**
+     * Indica se a janela já está construída e preparada.
+     *
+     * @return {@code true} se a janela está pronta para ser exibida sem nova construção
+     */
+    public synchronized boolean isReady() {
+        return delivered != null || (prepared != null && prepared.get() != null);
+    }
+
+    /**
+     * Indica se a janela pré-construída foi descartada pelo coletor de lixo.
+     *
+     * @return {@code true} se a janela precisará ser reconstruída em {@link #get()}
+     */
+    public synchronized boolean isEvicted() {
+        return delivered == null && prepared != null && prepared.get() == null;
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    void start() {
+        EdtIdleScheduler.schedule(this::construct);
+    }
+
+    private synchronized void construct() {
+        if (cancelled || delivered != null) return;
+
+        T window = supplier.get();
+        WindowContext.removeWindow(window);
+        constructing = window;
+        EdtIdleScheduler.schedule(this::prepareConstructed);
+    }
+
+    private synchronized void prepareConstructed() {
+        if (cancelled || delivered != null || constructing == null) return;
+
+        T window = constructing;
+        window.prepare();
+        prepared = new SoftReference<>(window);
+        constructing = null;
+    }
+}
@@ -0,0 +1,33 @@
+package dtm.stools.context;
+
+import dtm.stools.internal.binding.LazyRef;
+import lombok.NonNull;
+
+import java.awt.Component;
+
+/**
+ * Referência a um componente resolvida apenas no primeiro acesso.
+ *
+ * <p>Usada em campos {@code @ViewRef} para que o controller conclua o {@code onInit} sem consultar o DOM;
+ * referências nunca acessadas não custam nenhuma busca. O componente resolvido é mantido em cache.
+ *
+ * @param <T> tipo do componente
+ */
+public interface Ref<T extends Component> {
+
+    /**
+     * Retorna o componente, resolvendo-o na primeira chamada.
+     *
+     * @return o componente referenciado
+     * @throws dtm.stools.exceptions.DomElementNotFoundException se não houver componente com o ID
+     */
+    T get();
+
+    boolean isResolved();
+
+    String getId();
+
+    static <T extends Component> Ref<T> of(@NonNull IWindow window, @NonNull String id, @NonNull Class<T> type) {
+        return new LazyRef<>(id, type, () -> window.findById(id));
+    }
+}
@@ -0,0 +1,34 @@
+package dtm.stools.context;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Escopo de tarefas assíncronas vinculado ao ciclo de vida de uma janela ou painel.
+ *
+ * <p>Todas as tarefas submetidas são rastreadas e canceladas (com interrupção) quando o dono
+ * é descartado. Continuações registradas com {@link #thenOnEdt(CompletableFuture, Consumer)}
+ * são descartadas se o escopo tiver sido cancelado antes de sua execução.
+ */
+public interface TaskScope {
+    CompletableFuture<Void> run(Runnable command);
+    <T> CompletableFuture<T> supply(Supplier<T> command);
+    <T> CompletableFuture<Void> thenOnEdt(CompletableFuture<T> future, Consumer<? super T> action);
+
+    /**
+     * Cancela as tarefas em andamento e descarta as continuações pendentes, mantendo o escopo aberto
+     * para novas submissões.
+     */
+    void cancelAll();
+
+    /**
+     * Cancela as tarefas em andamento e encerra o escopo. Novas submissões retornam futures cancelados.
+     */
+    void close();
+
+    boolean isClosed();
+    int getInFlightCount();
+    long getSubmittedCount();
+    long getCancelledCount();
+}
@@ -2,11 +2,13 @@ package dtm.stools.context;
 
 import dtm.stools.internal.wrapper.ConcurrentWeakReferenceDeque;
 import dtm.stools.internal.wrapper.ConcurrentWeakReferenceQueue;
+import lombok.NonNull;
 
 import java.util.Deque;
 import java.util.Queue;
 import java.util.Stack;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Supplier;
 
 /**
  * Classe utilitária para gerenciamento do contexto de janelas (windows) da aplicação.
@@ -107,6 +109,23 @@ public final class WindowContext {
         return windowContextStack.size();
     }
 
+    /**
+     * Constrói antecipadamente a próxima janela, fora da tela.
+     *
+     * <p>A criação e o {@code prepare()} da janela são executados em fatias ociosas da Event Dispatch Thread,
+     * e a janela só entra na pilha de contexto quando for obtida por {@link PrefetchedWindow#get()}.
+     * Uma chamada posterior a {@code init()} apenas exibe a janela.
+     *
+     * @param supplier fábrica da janela
+     * @param <T> o tipo da janela
+     * @return referência cancelável para a janela pré-construída
+     */
+    public static <T extends IWindow> PrefetchedWindow<T> prefetch(@NonNull Supplier<T> supplier) {
+        PrefetchedWindow<T> prefetchedWindow = new PrefetchedWindow<>(supplier);
+        prefetchedWindow.start();
+        return prefetchedWindow;
+    }
+
     /**
      * Remove todas as janelas do contexto.
      */
@@ -0,0 +1,73 @@
+package dtm.stools.context;
+
+import dtm.stools.configs.WindowExecutorProvider;
+import dtm.stools.internal.executor.ForkJoinExecutorProvider;
+import dtm.stools.internal.executor.VirtualThreadExecutorProvider;
+import dtm.stools.internal.window.WindowExecutorService;
+import lombok.NonNull;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Configuração global do executor utilizado pelas janelas e painéis do framework.
+ *
+ * <p>Por padrão todas as janelas compartilham um executor de threads virtuais.
+ * O provedor pode ser trocado antes da criação das janelas; janelas que já submeteram
+ * tarefas continuam utilizando o executor obtido anteriormente.
+ */
+public final class WindowExecutorContext {
+
+    private static volatile WindowExecutorProvider provider = new VirtualThreadExecutorProvider();
+
+    private WindowExecutorContext() {}
+
+    /**
+     * Define o provedor do executor compartilhado.
+     *
+     * @param executorProvider o novo provedor
+     */
+    public static void setProvider(@NonNull WindowExecutorProvider executorProvider) {
+        provider = executorProvider;
+    }
+
+    /**
+     * Retorna o provedor atualmente configurado.
+     *
+     * @return o provedor do executor compartilhado
+     */
+    public static WindowExecutorProvider getProvider() {
+        return provider;
+    }
+
+    /**
+     * Utiliza um executor compartilhado de threads virtuais (padrão).
+     */
+    public static void useVirtualThreads() {
+        setProvider(new VirtualThreadExecutorProvider());
+    }
+
+    /**
+     * Utiliza um {@link java.util.concurrent.ForkJoinPool} compartilhado com paralelismo limitado.
+     *
+     * @param parallelism número máximo de threads do pool
+     */
+    public static void useBoundedPool(int parallelism) {
+        setProvider(new ForkJoinExecutorProvider(parallelism));
+    }
+
+    /**
+     * Cria o executor de uma janela. Nenhuma thread é criada até que a primeira tarefa seja submetida.
+     *
+     * @return executor restrito à janela
+     */
+    public static ExecutorService newWindowExecutor() {
+        return new WindowExecutorService(() -> provider.getExecutor());
+    }
+
+    /**
+     * Encerra o executor compartilhado do provedor atual.
+     */
+    public static void shutdown() {
+        provider.shutdown();
+    }
+}
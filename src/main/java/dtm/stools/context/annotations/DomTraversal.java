@@ -0,0 +1,16 @@
+package dtm.stools.context.annotations;
+
+import dtm.stools.context.enums.DomTraversalStrategy;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface DomTraversal {
+    DomTraversalStrategy value();
+}
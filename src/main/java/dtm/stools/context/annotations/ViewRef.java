@@ -5,8 +5,19 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * Injeta no campo do controller o componente com o ID informado (ou com o nome do campo).
+ *
+ * <p>Campos do tipo {@link dtm.stools.context.Ref} são sempre resolvidos sob demanda, no primeiro
+ * {@code get()}. Com {@code lazy = true}, campos de componente não forçam o carregamento do DOM durante
+ * o {@code onInit}: o campo é preenchido quando o componente é anexado ao índice (ou imediatamente, se já
+ * estiver nele) e permanece {@code null} até lá. A leitura do campo não dispara a resolução; para resolver no
+ * primeiro acesso use um campo {@link dtm.stools.context.Ref}. A inscrição é cancelada após a primeira
+ * atribuição ou quando as inscrições do controller são canceladas.
+ */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.FIELD)
 public @interface ViewRef {
     String value() default "";
+    boolean lazy() default false;
 }
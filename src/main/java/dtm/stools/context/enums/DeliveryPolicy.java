@@ -0,0 +1,22 @@
+package dtm.stools.context.enums;
+
+/**
+ * Thread em que um assinante do {@link dtm.stools.context.EventBus} recebe os eventos.
+ * Em todas as políticas os eventos de um mesmo assinante são entregues um de cada vez, na ordem de publicação.
+ */
+public enum DeliveryPolicy {
+    /**
+     * Entrega na Event Dispatch Thread, para assinantes que atualizam componentes.
+     */
+    EDT,
+
+    /**
+     * Entrega no executor compartilhado das janelas ({@link dtm.stools.context.WindowExecutorContext}).
+     */
+    BACKGROUND,
+
+    /**
+     * Entrega em uma thread virtual dedicada a cada lote de eventos, para assinantes que bloqueiam em I/O.
+     */
+    VIRTUAL_THREAD
+}
@@ -0,0 +1,18 @@
+package dtm.stools.context.enums;
+
+/**
+ * Estratégia de percurso da árvore de componentes na carga completa do DOM.
+ */
+public enum DomTraversalStrategy {
+    /**
+     * Percurso iterativo em uma única passada, executado na thread que construiu a interface ou na
+     * Event Dispatch Thread quando a janela já é exibível. Não concorre com alterações feitas pela EDT.
+     */
+    SEQUENTIAL,
+
+    /**
+     * Uma tarefa por filho direto da raiz, executadas em paralelo no executor da janela.
+     * Pode ser mais rápido em árvores muito largas, mas lê os containers fora da EDT.
+     */
+    PARALLEL
+}
@@ -0,0 +1,22 @@
+package dtm.stools.context.enums;
+
+/**
+ * Comportamento do {@link dtm.stools.context.EventBus} quando a fila de um assinante está cheia.
+ */
+public enum OverflowStrategy {
+    /**
+     * Bloqueia quem publica até haver espaço na fila. Publicações feitas na Event Dispatch Thread
+     * nunca bloqueiam: o evento é descartado.
+     */
+    BLOCK,
+
+    /**
+     * Descarta o evento que está sendo publicado.
+     */
+    DROP_NEWEST,
+
+    /**
+     * Descarta o evento mais antigo da fila para abrir espaço ao novo.
+     */
+    DROP_OLDEST
+}
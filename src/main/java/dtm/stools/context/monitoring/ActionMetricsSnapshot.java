@@ -0,0 +1,33 @@
+package dtm.stools.context.monitoring;
+
+import lombok.Getter;
+
+/**
+ * Leitura pontual das métricas de uma ação executada pelo {@code WindowExecutor} de uma janela.
+ * Os tempos são expressos em milissegundos.
+ */
+@Getter
+public class ActionMetricsSnapshot {
+    private final String windowClass;
+    private final String action;
+    private final long count;
+    private final long errors;
+    private final double meanMillis;
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+
+    public ActionMetricsSnapshot(String windowClass, String action, long count, long errors,
+                                 double meanMillis, double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+        this.windowClass = windowClass;
+        this.action = action;
+        this.count = count;
+        this.errors = errors;
+        this.meanMillis = meanMillis;
+        this.p50Millis = p50Millis;
+        this.p95Millis = p95Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+    }
+}
@@ -0,0 +1,37 @@
+package dtm.stools.context.monitoring;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Registro de um evento que bloqueou a Event Dispatch Thread além do limite configurado.
+ */
+@Getter
+public class EdtStall {
+    private final Instant timestamp;
+    private final long durationMillis;
+    private final String action;
+    private final String event;
+    private final StackTraceElement[] stackTrace;
+
+    public EdtStall(Instant timestamp, long durationMillis, String action, String event, StackTraceElement[] stackTrace) {
+        this.timestamp = timestamp;
+        this.durationMillis = durationMillis;
+        this.action = action;
+        this.event = event;
+        this.stackTrace = stackTrace;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder()
+                .append("EDT bloqueada por ").append(durationMillis).append(" ms")
+                .append(" [acao=").append(action != null ? action : "desconhecida")
+                .append(", evento=").append(event).append(']');
+        for (StackTraceElement element : stackTrace) {
+            builder.append(System.lineSeparator()).append("\tat ").append(element);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,6 @@
+package dtm.stools.context.monitoring;
+
+@FunctionalInterface
+public interface EdtStallListener {
+    void onStall(EdtStall stall);
+}
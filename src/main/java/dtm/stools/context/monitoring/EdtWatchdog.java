@@ -0,0 +1,149 @@
+package dtm.stools.context.monitoring;
+
+import dtm.stools.internal.monitoring.ActionTracker;
+import dtm.stools.internal.monitoring.MonitoredEventQueue;
+import lombok.NonNull;
+
+import java.awt.*;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Watchdog opcional que detecta eventos bloqueando a Event Dispatch Thread.
+ *
+ * <p>Quando habilitado, uma {@link EventQueue} monitorada registra o início de cada despacho e uma
+ * thread de amostragem verifica periodicamente se o evento atual ultrapassou o limite. Nesse caso
+ * captura a pilha da EDT e a ação do {@code WindowExecutor} em execução (por exemplo {@code init},
+ * {@code findById} ou os rótulos de {@code UiHandlers.wrapAction}), notifica os listeners e guarda o
+ * registro no histórico recente.
+ *
+ * <p>Desabilitado (padrão), o watchdog não instala nada e o custo é apenas a leitura de um campo volátil
+ * por ação executada.
+ */
+public final class EdtWatchdog {
+
+    private static final int HISTORY_SIZE = 100;
+    private static final long MIN_SAMPLING_MILLIS = 10;
+
+    private static final List<EdtStallListener> listeners = new CopyOnWriteArrayList<>();
+    private static final Deque<EdtStall> history = new ConcurrentLinkedDeque<>();
+    private static final AtomicInteger historySize = new AtomicInteger(0);
+
+    private static MonitoredEventQueue eventQueue;
+    private static Thread samplerThread;
+    private static volatile long thresholdNanos;
+
+    private EdtWatchdog() {}
+
+    /**
+     * Habilita o watchdog.
+     *
+     * @param thresholdMillis tempo de despacho a partir do qual um evento é considerado um bloqueio
+     */
+    public static synchronized void enable(long thresholdMillis) {
+        if (thresholdMillis <= 0) {
+            throw new IllegalArgumentException("O limite deve ser maior que 0");
+        }
+        thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        if (eventQueue != null) return;
+
+        eventQueue = new MonitoredEventQueue();
+        eventQueue.install();
+        ActionTracker.setEnabled(true);
+
+        long samplingMillis = Math.max(MIN_SAMPLING_MILLIS, thresholdMillis / 2);
+        samplerThread = new Thread(() -> sample(eventQueue, samplingMillis), "stools-edt-watchdog");
+        samplerThread.setDaemon(true);
+        samplerThread.start();
+    }
+
+    /**
+     * Desabilita o watchdog e restaura a fila de eventos original.
+     */
+    public static synchronized void disable() {
+        if (eventQueue == null) return;
+        ActionTracker.setEnabled(false);
+        samplerThread.interrupt();
+        eventQueue.uninstall();
+        samplerThread = null;
+        eventQueue = null;
+    }
+
+    public static synchronized boolean isEnabled() {
+        return eventQueue != null;
+    }
+
+    public static void addListener(@NonNull EdtStallListener listener) {
+        listeners.add(listener);
+    }
+
+    public static void removeListener(@NonNull EdtStallListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Retorna os bloqueios mais recentes, do mais antigo para o mais novo.
+     *
+     * @return cópia do histórico de bloqueios
+     */
+    public static List<EdtStall> getRecentStalls() {
+        return new ArrayList<>(history);
+    }
+
+    public static void clearHistory() {
+        history.clear();
+        historySize.set(0);
+    }
+
+    private static void sample(MonitoredEventQueue queue, long samplingMillis) {
+        long reportedSequence = -1;
+        long samplingNanos = TimeUnit.MILLISECONDS.toNanos(samplingMillis);
+
+        while (!Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(samplingNanos);
+
+            long start = queue.getDispatchStart();
+            long sequence = queue.getDispatchSequence();
+            if (start == 0L || sequence == reportedSequence) continue;
+
+            long elapsed = System.nanoTime() - start;
+            if (elapsed < thresholdNanos) continue;
+
+            Thread dispatchThread = queue.getDispatchThread();
+            AWTEvent event = queue.getDispatchingEvent();
+            String action = ActionTracker.getCurrentEdtAction();
+            StackTraceElement[] stackTrace = (dispatchThread != null) ? dispatchThread.getStackTrace() : new StackTraceElement[0];
+
+            if (queue.getDispatchSequence() != sequence) continue;
+            reportedSequence = sequence;
+
+            report(new EdtStall(
+                    Instant.now(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    action,
+                    (event != null) ? event.getClass().getSimpleName() + "[id=" + event.getID() + "]" : "desconhecido",
+                    stackTrace
+            ));
+        }
+    }
+
+    private static void report(EdtStall stall) {
+        history.addLast(stall);
+        if (historySize.incrementAndGet() > HISTORY_SIZE && history.pollFirst() != null) {
+            historySize.decrementAndGet();
+        }
+
+        for (EdtStallListener listener : listeners) {
+            try {
+                listener.onStall(stall);
+            } catch (Exception ignored) {}
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package dtm.stools.context.monitoring;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Relatório agregado da inicialização de todas as janelas perfiladas.
+ */
+@Getter
+public class StartupAggregateReport {
+    private final int windowCount;
+    private final double launchToLastFirstPaintMillis;
+    private final double maxTimeToFirstPaintMillis;
+    private final Map<String, Double> totalPhaseMillis;
+    private final Map<String, Double> maxPhaseMillis;
+
+    public StartupAggregateReport(int windowCount, double launchToLastFirstPaintMillis, double maxTimeToFirstPaintMillis,
+                                  Map<String, Double> totalPhaseMillis, Map<String, Double> maxPhaseMillis) {
+        this.windowCount = windowCount;
+        this.launchToLastFirstPaintMillis = launchToLastFirstPaintMillis;
+        this.maxTimeToFirstPaintMillis = maxTimeToFirstPaintMillis;
+        this.totalPhaseMillis = Collections.unmodifiableMap(new LinkedHashMap<>(totalPhaseMillis));
+        this.maxPhaseMillis = Collections.unmodifiableMap(new LinkedHashMap<>(maxPhaseMillis));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder()
+                .append("Startup agregado: ").append(windowCount).append(" janela(s), ")
+                .append(String.format("%.2f ms até a última primeira pintura", launchToLastFirstPaintMillis));
+        for (Map.Entry<String, Double> entry : totalPhaseMillis.entrySet()) {
+            builder.append(System.lineSeparator())
+                    .append(String.format("  %-30s total %9.2f ms  max %9.2f ms",
+                            entry.getKey(), entry.getValue(), maxPhaseMillis.getOrDefault(entry.getKey(), 0.0)));
+        }
+        return builder.toString();
+    }
+}
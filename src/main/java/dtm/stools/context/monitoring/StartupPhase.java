@@ -0,0 +1,25 @@
+package dtm.stools.context.monitoring;
+
+import lombok.Getter;
+
+/**
+ * Etapa medida durante a inicialização de uma janela.
+ * {@code startMillis} é relativo ao início do {@code init()}/{@code prepare()}.
+ */
+@Getter
+public class StartupPhase {
+    private final String name;
+    private final double startMillis;
+    private final double durationMillis;
+
+    public StartupPhase(String name, double startMillis, double durationMillis) {
+        this.name = name;
+        this.startMillis = startMillis;
+        this.durationMillis = durationMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-30s +%9.2f ms %9.2f ms", name, startMillis, durationMillis);
+    }
+}
@@ -0,0 +1,177 @@
+package dtm.stools.context.monitoring;
+
+import dtm.stools.internal.monitoring.StartupRecorder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Profiler da inicialização das janelas {@code Activity}.
+ *
+ * <p>Quando habilitado, cada {@code init()} registra a duração de {@code applySystemTrayConfiguration},
+ * {@code setupSystemTray}, {@code onDrawing}, {@code domElementLoader.load}, {@code addEvents} e do
+ * {@code setVisible} adiado, além dos marcos {@code domIndexed} e da primeira pintura do frame.
+ * Os relatórios podem ser usados em testes de regressão de desempenho.
+ *
+ * <p>Apenas os registros das últimas {@link #getMaxReports()} janelas são mantidos individualmente. Os mais
+ * antigos são somados ao relatório agregado quando descartados, de modo que a memória usada não cresce com o
+ * número de janelas abertas; marcos que chegarem depois do descarte não entram no agregado.
+ */
+public final class StartupProfiler {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final int DEFAULT_MAX_REPORTS = 256;
+
+    private static final Object lock = new Object();
+    private static final Deque<StartupRecorder> recorders = new ArrayDeque<>();
+    private static Aggregate evicted = new Aggregate();
+    private static int maxReports = DEFAULT_MAX_REPORTS;
+    private static volatile boolean enabled;
+
+    private StartupProfiler() {}
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static void disable() {
+        enabled = false;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Define quantas janelas têm o relatório individual mantido. Padrão: {@value #DEFAULT_MAX_REPORTS}.
+     *
+     * @param max quantidade máxima de relatórios individuais
+     */
+    public static void setMaxReports(int max) {
+        if (max <= 0) {
+            throw new IllegalArgumentException("A quantidade máxima de relatórios deve ser maior que 0");
+        }
+        synchronized (lock) {
+            maxReports = max;
+            trim();
+        }
+    }
+
+    public static int getMaxReports() {
+        synchronized (lock) {
+            return maxReports;
+        }
+    }
+
+    /**
+     * Inicia o perfil de uma janela. Chamado pela própria janela no início da inicialização.
+     *
+     * @param windowClass classe da janela
+     * @return o registrador da janela, ou um registrador inativo se o profiler estiver desabilitado
+     */
+    public static StartupRecorder start(Class<?> windowClass) {
+        if (!enabled) return StartupRecorder.DISABLED;
+        StartupRecorder recorder = new StartupRecorder(windowClass.getName());
+        synchronized (lock) {
+            recorders.addLast(recorder);
+            trim();
+        }
+        return recorder;
+    }
+
+    /**
+     * Retorna os relatórios das últimas janelas perfiladas, na ordem de inicialização.
+     *
+     * @return relatórios por janela, no máximo {@link #getMaxReports()}
+     */
+    public static List<StartupReport> getReports() {
+        List<StartupRecorder> snapshot;
+        synchronized (lock) {
+            snapshot = new ArrayList<>(recorders);
+        }
+        List<StartupReport> reports = new ArrayList<>(snapshot.size());
+        for (StartupRecorder recorder : snapshot) {
+            reports.add(recorder.toReport());
+        }
+        return reports;
+    }
+
+    /**
+     * Agrega os relatórios de todas as janelas perfiladas desde o início da aplicação
+     * (ou desde o último {@link #reset()}), inclusive as que já não têm relatório individual.
+     *
+     * @return relatório agregado
+     */
+    public static StartupAggregateReport getAggregateReport() {
+        Aggregate aggregate;
+        List<StartupRecorder> snapshot;
+        synchronized (lock) {
+            aggregate = evicted.copy();
+            snapshot = new ArrayList<>(recorders);
+        }
+        for (StartupRecorder recorder : snapshot) {
+            aggregate.add(recorder);
+        }
+        return aggregate.toReport();
+    }
+
+    public static void reset() {
+        synchronized (lock) {
+            recorders.clear();
+            evicted = new Aggregate();
+        }
+    }
+
+    private static void trim() {
+        while (recorders.size() > maxReports) {
+            evicted.add(recorders.pollFirst());
+        }
+    }
+
+    /**
+     * Estatísticas acumuladas por etapa, na ordem em que cada etapa apareceu pela primeira vez.
+     */
+    private static final class Aggregate {
+        private final Map<String, Double> totals = new LinkedHashMap<>();
+        private final Map<String, Double> maximums = new LinkedHashMap<>();
+        private int windowCount;
+        private long firstStart = Long.MAX_VALUE;
+        private long lastPaint = Long.MIN_VALUE;
+        private double maxTimeToFirstPaint;
+
+        void add(StartupRecorder recorder) {
+            windowCount++;
+            firstStart = Math.min(firstStart, recorder.getStartNanos());
+            if (recorder.getFirstPaintNanos() >= 0) {
+                lastPaint = Math.max(lastPaint, recorder.getFirstPaintNanos());
+            }
+
+            StartupReport report = recorder.toReport();
+            maxTimeToFirstPaint = Math.max(maxTimeToFirstPaint, report.getTimeToFirstPaintMillis());
+            for (StartupPhase phase : report.getPhases()) {
+                totals.merge(phase.getName(), phase.getDurationMillis(), Double::sum);
+                maximums.merge(phase.getName(), phase.getDurationMillis(), Math::max);
+            }
+        }
+
+        Aggregate copy() {
+            Aggregate copy = new Aggregate();
+            copy.totals.putAll(totals);
+            copy.maximums.putAll(maximums);
+            copy.windowCount = windowCount;
+            copy.firstStart = firstStart;
+            copy.lastPaint = lastPaint;
+            copy.maxTimeToFirstPaint = maxTimeToFirstPaint;
+            return copy;
+        }
+
+        StartupAggregateReport toReport() {
+            double launchToLastPaint = (lastPaint == Long.MIN_VALUE) ? -1 : (lastPaint - firstStart) / NANOS_PER_MILLI;
+            return new StartupAggregateReport(windowCount, launchToLastPaint, maxTimeToFirstPaint, totals, maximums);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package dtm.stools.context.monitoring;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Relatório de inicialização de uma janela: duração de cada etapa do {@code init()}
+ * e tempo até a primeira pintura efetiva do frame.
+ */
+@Getter
+public class StartupReport {
+    private final String windowClass;
+    private final List<StartupPhase> phases;
+    private final double timeToFirstPaintMillis;
+
+    public StartupReport(String windowClass, List<StartupPhase> phases, double timeToFirstPaintMillis) {
+        this.windowClass = windowClass;
+        this.phases = List.copyOf(phases);
+        this.timeToFirstPaintMillis = timeToFirstPaintMillis;
+    }
+
+    /**
+     * Indica se a janela já foi pintada pela primeira vez.
+     *
+     * @return {@code true} se o tempo até a primeira pintura está disponível
+     */
+    public boolean isPainted() {
+        return timeToFirstPaintMillis >= 0;
+    }
+
+    /**
+     * Retorna a duração somada das etapas com o nome informado.
+     *
+     * @param phaseName nome da etapa (ex.: {@code onDrawing})
+     * @return duração em milissegundos, ou {@code 0} se a etapa não foi registrada
+     */
+    public double getPhaseMillis(String phaseName) {
+        double total = 0;
+        for (StartupPhase phase : phases) {
+            if (phase.getName().equals(phaseName)) total += phase.getDurationMillis();
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Startup [").append(windowClass).append(']');
+        for (StartupPhase phase : phases) {
+            builder.append(System.lineSeparator()).append("  ").append(phase);
+        }
+        builder.append(System.lineSeparator()).append("  primeira pintura: ")
+                .append(isPainted() ? String.format("%.2f ms", timeToFirstPaintMillis) : "pendente");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,127 @@
+package dtm.stools.context.monitoring;
+
+import dtm.stools.internal.monitoring.ActionMetrics;
+import dtm.stools.internal.monitoring.ActionMetricsRegistry;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Métricas de latência e erros por classe de janela e ação do {@code WindowExecutor}
+ * ({@code init}, {@code findById}, {@code getFromClient}, ações de {@code UiHandlers}, etc.).
+ *
+ * <p>As métricas são opcionais: enquanto desabilitadas, o custo por ação é apenas a leitura de um
+ * campo volátil. Ao habilitar, as métricas também são exportadas como MXBean sob o nome
+ * {@value #OBJECT_NAME}.
+ */
+public final class WindowMetrics {
+
+    public static final String OBJECT_NAME = "dtm.stools:type=WindowMetrics";
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private WindowMetrics() {}
+
+    /**
+     * Habilita a coleta de métricas e registra o MXBean no {@link MBeanServer} da plataforma.
+     */
+    public static synchronized void enable() {
+        ActionMetricsRegistry.setEnabled(true);
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(new WindowMetricsBean(), objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Falha ao registrar o MXBean de métricas", e);
+        }
+    }
+
+    /**
+     * Desabilita a coleta de métricas e remove o MXBean. Os valores coletados são mantidos.
+     */
+    public static synchronized void disable() {
+        ActionMetricsRegistry.setEnabled(false);
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException ignored) {}
+    }
+
+    public static boolean isEnabled() {
+        return ActionMetricsRegistry.isEnabled();
+    }
+
+    /**
+     * Retorna uma leitura das métricas de todas as ações, ordenada pelo tempo total acumulado.
+     *
+     * @return lista de métricas por janela e ação
+     */
+    public static List<ActionMetricsSnapshot> snapshot() {
+        List<ActionMetrics> metrics = new ArrayList<>(ActionMetricsRegistry.getMetrics());
+        metrics.sort(Comparator.comparingLong(ActionMetrics::getTotalNanos).reversed());
+
+        List<ActionMetricsSnapshot> snapshots = new ArrayList<>(metrics.size());
+        for (ActionMetrics actionMetrics : metrics) {
+            long count = actionMetrics.getCount();
+            if (count == 0) continue;
+            long[] percentiles = actionMetrics.getPercentilesNanos(50, 95, 99);
+            snapshots.add(new ActionMetricsSnapshot(
+                    actionMetrics.getOwner(),
+                    actionMetrics.getAction(),
+                    count,
+                    actionMetrics.getErrors(),
+                    actionMetrics.getTotalNanos() / (double) count / NANOS_PER_MILLI,
+                    percentiles[0] / NANOS_PER_MILLI,
+                    percentiles[1] / NANOS_PER_MILLI,
+                    percentiles[2] / NANOS_PER_MILLI,
+                    actionMetrics.getMaxNanos() / NANOS_PER_MILLI
+            ));
+        }
+        return snapshots;
+    }
+
+    public static void reset() {
+        ActionMetricsRegistry.reset();
+    }
+
+    private static final class WindowMetricsBean implements WindowMetricsMXBean {
+
+        @Override
+        public List<ActionMetricsSnapshot> getActions() {
+            return snapshot();
+        }
+
+        @Override
+        public long getTotalCount() {
+            long total = 0;
+            for (ActionMetrics actionMetrics : ActionMetricsRegistry.getMetrics()) {
+                total += actionMetrics.getCount();
+            }
+            return total;
+        }
+
+        @Override
+        public long getTotalErrors() {
+            long total = 0;
+            for (ActionMetrics actionMetrics : ActionMetricsRegistry.getMetrics()) {
+                total += actionMetrics.getErrors();
+            }
+            return total;
+        }
+
+        @Override
+        public void reset() {
+            WindowMetrics.reset();
+        }
+    }
+}
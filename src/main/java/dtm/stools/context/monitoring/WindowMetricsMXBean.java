@@ -0,0 +1,10 @@
+package dtm.stools.context.monitoring;
+
+import java.util.List;
+
+public interface WindowMetricsMXBean {
+    List<ActionMetricsSnapshot> getActions();
+    long getTotalCount();
+    long getTotalErrors();
+    void reset();
+}
@@ -3,20 +3,28 @@ package dtm.stools.controllers;
 import dtm.stools.activity.Activity;
 import dtm.stools.activity.delegated.DelegatedActivity;
 import dtm.stools.activity.delegated.DelegatedWindow;
+import dtm.stools.context.ElementSubscription;
+import dtm.stools.context.EventBus;
+import dtm.stools.context.EventSubscription;
 import dtm.stools.context.IWindow;
+import dtm.stools.context.enums.DeliveryPolicy;
 import dtm.stools.context.enums.TrayEventType;
+import dtm.stools.internal.event.SubscriptionGroup;
 import lombok.NonNull;
 
 import java.awt.*;
 import java.awt.event.MouseEvent;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 public abstract class AbstractController<T extends IWindow> {
     private final AtomicReference<T> window;
+    private final SubscriptionGroup subscriptions;
 
     protected AbstractController() {
         this.window = new AtomicReference<>();
+        this.subscriptions = new SubscriptionGroup();
     }
 
     public void onInit(T activity){ this.window.set(activity);}
@@ -38,5 +46,15 @@ public abstract class AbstractController<T extends IWindow> {
         T window = getWindow();
         return (window != null) ? window.findAllById(id) : null;
     };
+    public void publish(@NonNull Object event){ EventBus.getDefault().publish(event); }
+    public <E> EventSubscription subscribe(@NonNull Class<E> type, @NonNull Consumer<? super E> handler){
+        return subscriptions.subscribe(type, DeliveryPolicy.EDT, handler);
+    }
+    public <E> EventSubscription subscribe(@NonNull Class<E> type, @NonNull DeliveryPolicy policy, @NonNull Consumer<? super E> handler){
+        return subscriptions.subscribe(type, policy, handler);
+    }
+    public void unsubscribeAll(){ subscriptions.unsubscribeAll(); }
     public final T getWindow(){ return window.get(); }
+
+    void track(ElementSubscription subscription){ subscriptions.track(subscription); }
 }
@@ -1,11 +1,28 @@
 package dtm.stools.controllers.component;
 
+import dtm.stools.context.EventBus;
+import dtm.stools.context.EventSubscription;
 import dtm.stools.context.IWindow;
 import dtm.stools.context.IWindowComponent;
+import dtm.stools.context.enums.DeliveryPolicy;
+import dtm.stools.internal.event.SubscriptionGroup;
+import lombok.NonNull;
+
+import java.util.function.Consumer;
 
 public abstract class AbstractViewController<T extends IWindowComponent>{
+    private final SubscriptionGroup subscriptions = new SubscriptionGroup();
+
     public void onLoad() {}
     public void onRemoved() {}
     public void onLostFocus() {}
     public void onFocus() {}
+    public void publish(@NonNull Object event){ EventBus.getDefault().publish(event); }
+    public <E> EventSubscription subscribe(@NonNull Class<E> type, @NonNull Consumer<? super E> handler){
+        return subscriptions.subscribe(type, DeliveryPolicy.EDT, handler);
+    }
+    public <E> EventSubscription subscribe(@NonNull Class<E> type, @NonNull DeliveryPolicy policy, @NonNull Consumer<? super E> handler){
+        return subscriptions.subscribe(type, policy, handler);
+    }
+    public void unsubscribeAll(){ subscriptions.unsubscribeAll(); }
 }
@@ -0,0 +1,9 @@
+package dtm.stools.exceptions;
+
+public class InvalidSelectorException extends RuntimeException{
+
+    public InvalidSelectorException(String message){
+        super(message);
+    }
+
+}
@@ -0,0 +1,859 @@
+package dtm.stools.internal;
+
+import dtm.stools.context.DomElementLoader;
+import dtm.stools.context.DomIndexContext;
+import dtm.stools.context.ElementSubscription;
+import dtm.stools.context.annotations.DomTraversal;
+import dtm.stools.context.enums.DomTraversalStrategy;
+import dtm.stools.internal.monitoring.jfr.DomIndexEvent;
+import dtm.stools.internal.monitoring.jfr.JfrSupport;
+import dtm.stools.internal.selector.Selector;
+import dtm.stools.internal.selector.SelectorIndex;
+import lombok.SneakyThrows;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ContainerEvent;
+import java.awt.event.ContainerListener;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Base dos carregadores de DOM de janelas e painéis.
+ *
+ * <p>Após a primeira indexação o índice é mantido de forma incremental: cada container percorrido recebe
+ * um {@link ContainerListener} e cada componente um {@link PropertyChangeListener} da propriedade
+ * {@code name}, de modo que adições, remoções e renomeações atualizam apenas a subárvore afetada,
+ * sem limpar e percorrer novamente toda a árvore.
+ *
+ * <p>Na mesma travessia é mantido um índice secundário por tipo, com a classe concreta de cada componente
+ * e todas as suas superclasses até {@link Component}. Ambos os índices são usados para obter os candidatos
+ * dos seletores de {@link #querySelectorAll(String)}, sem percorrer novamente a árvore.
+ *
+ * <p>O índice é publicado como um {@link DomIndex} imutável: cada carga ou alteração incremental gera um novo
+ * snapshot, trocado atomicamente, e as leituras não usam locks nem copiam listas. Alterações recebidas
+ * durante uma carga completa são enfileiradas e aplicadas sobre o resultado antes da publicação.
+ *
+ * <p>A carga completa usa por padrão um percurso iterativo em uma única passada, executado na thread que
+ * construiu a interface ou, se a janela já for exibível, na Event Dispatch Thread; assim a leitura da árvore
+ * não concorre com alterações feitas pela EDT. O percurso paralelo anterior continua disponível por
+ * {@link DomTraversal} ou {@link DomIndexContext#setTraversalStrategy}.
+ *
+ * <p>Carregadores de painéis aninhados não indexam a própria subárvore quando estão dentro de uma raiz que já
+ * mantém um índice (veja o parâmetro {@code scoped}); as consultas são feitas no índice externo e restritas aos
+ * descendentes da raiz, de forma que cada componente é indexado uma única vez. A troca entre índice próprio e
+ * índice externo acontece apenas em {@link #updateScope()}, chamado pelo painel na Event Dispatch Thread; as
+ * consultas nunca alteram o estado do carregador.
+ *
+ * <p>Inscrições de {@link #onElementAttached} e {@link #onElementDetached} são notificadas na Event Dispatch Thread
+ * sempre que um snapshot publicado altera a lista de componentes do nome inscrito. As inscrições pertencem ao
+ * carregador: enquanto ele usa o índice externo, cada nome inscrito é encaminhado por uma única inscrição no
+ * carregador externo, refeita a cada troca de escopo.
+ *
+ * <p>Quais componentes são indexados e se as entradas são mantidas por referências fracas é definido
+ * por {@link DomIndexContext} no início de cada carga completa; cada subclasse informa de onde vem o seu filtro.
+ *
+ * @param <T> tipo da raiz indexada
+ */
+public abstract class AbstractDomElementLoader<T extends Container> implements DomElementLoader {
+
+    private static final String ROOT_KEY = "root";
+    private static final String NAME_PROPERTY = "name";
+    private static final ClassValue<DomTraversalStrategy> TRAVERSAL_STRATEGY = new ClassValue<>() {
+        @Override
+        protected DomTraversalStrategy computeValue(Class<?> type) {
+            DomTraversal traversal = type.getAnnotation(DomTraversal.class);
+            return (traversal != null) ? traversal.value() : null;
+        }
+    };
+
+    private static final Map<Container, WeakReference<AbstractDomElementLoader<?>>> indexOwners =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    protected final ExecutorService executorService;
+    protected final T root;
+    private final boolean scoped;
+    private final Object writeLock;
+    private final AtomicBoolean initialized;
+    private final Set<Component> watched;
+    private final IndexListener indexListener;
+    private final SelectorIndex selectorIndex;
+    private final Supplier<Predicate<Component>> filterSource;
+    private volatile DomIndex index;
+    private volatile Predicate<Component> filter;
+    private volatile ReferenceQueue<Component> referenceQueue;
+    private List<Consumer<DomIndex.Builder>> pendingChanges;
+    private ReferenceQueue<Component> loadingQueue;
+    private volatile Runnable pendingTraversal;
+    private volatile CompletableFuture<Void> loadDomList;
+    private volatile AbstractDomElementLoader<?> enclosing;
+    private volatile boolean ownIndex;
+    private final Map<String, List<Component>> earlyLookups;
+    private final Map<String, List<Consumer<Component>>> attachListeners;
+    private final Map<String, List<Consumer<Component>>> detachListeners;
+    private final Object scopeLock;
+    private final Map<String, ScopeBridge> bridges;
+
+    /**
+     * @param root raiz indexada
+     * @param executorService executor da janela ou painel
+     * @param scoped se {@code true}, quando a raiz estiver dentro de outra raiz que já mantém um índice próprio
+     *               (por exemplo um {@code ViewPanel} dentro de uma {@code Activity}), este carregador não percorre
+     *               a subárvore e passa a ser apenas uma visão restrita à raiz sobre o índice externo
+     */
+    protected AbstractDomElementLoader(T root, ExecutorService executorService, boolean scoped){
+        this(root, executorService, scoped, DomIndexContext::getFilter);
+    }
+
+    /**
+     * @param root raiz indexada
+     * @param executorService executor da janela ou painel
+     * @param scoped veja {@link #AbstractDomElementLoader(Container, ExecutorService, boolean)}
+     * @param filterSource fornece o filtro de indexação no início de cada carga completa
+     */
+    protected AbstractDomElementLoader(T root, ExecutorService executorService, boolean scoped,
+                                       Supplier<Predicate<Component>> filterSource){
+        this.initialized = new AtomicBoolean(false);
+        this.executorService = executorService;
+        this.root = root;
+        this.scoped = scoped;
+        this.writeLock = new Object();
+        this.index = DomIndex.EMPTY;
+        this.filterSource = filterSource;
+        this.filter = filterSource.get();
+        this.watched = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+        this.indexListener = new IndexListener();
+        this.selectorIndex = new IndexView();
+        this.earlyLookups = new ConcurrentHashMap<>();
+        this.attachListeners = new ConcurrentHashMap<>();
+        this.detachListeners = new ConcurrentHashMap<>();
+        this.scopeLock = new Object();
+        this.bridges = new ConcurrentHashMap<>();
+        if (!scoped) registerOwnIndex();
+    }
+
+    @Override
+    public void load() {
+        if (enclosingIndex() != null) {
+            this.loadDomList = CompletableFuture.completedFuture(null);
+            return;
+        }
+        registerOwnIndex();
+        this.loadDomList = loadDomView();
+    }
+
+    @Override
+    public void reload() {
+        if (enclosingIndex() != null) {
+            this.loadDomList = CompletableFuture.completedFuture(null);
+            return;
+        }
+        this.initialized.set(false);
+        unwatchAll();
+        registerOwnIndex();
+        this.loadDomList = loadDomView();
+    }
+
+    @SneakyThrows
+    @Override
+    public void completeLoad() {
+        AbstractDomElementLoader<?> outer = enclosingIndex();
+        if (outer != null) {
+            if (outer.isInitialized()) outer.completeLoad();
+            return;
+        }
+        if(initialized.compareAndSet(false, true)){
+            Runnable traversal = pendingTraversal;
+            if (traversal != null && SwingUtilities.isEventDispatchThread()) traversal.run();
+            loadDomList.get();
+        }
+    }
+
+    @Override
+    public boolean isLoad() {
+        AbstractDomElementLoader<?> outer = enclosingIndex();
+        return (outer != null) ? outer.isLoad() : initialized.get();
+    }
+
+    @Override
+    public boolean isInitialized() {
+        return this.loadDomList != null;
+    }
+
+    @Override
+    public Map<String, List<Component>> getDomElements() {
+        AbstractDomElementLoader<?> outer = enclosingIndex();
+        if (outer == null) return currentIndex().getNames();
+
+        Map<String, List<Component>> elements = new LinkedHashMap<>();
+        elements.put(ROOT_KEY, List.of(root));
+        for (Map.Entry<String, List<Component>> entry : outer.getDomElements().entrySet()) {
+            if (ROOT_KEY.equals(entry.getKey())) continue;
+            List<Component> components = withinScope(entry.getValue());
+            if (!components.isEmpty()) elements.put(entry.getKey(), components);
+        }
+        return Collections.unmodifiableMap(elements);
+    }
+
+    @Override
+    public List<Component> getElementsById(String id) {
+        AbstractDomElementLoader<?> outer = enclosingIndex();
+        if (outer == null) return currentIndex().getByName(id);
+        if (ROOT_KEY.equals(id)) return List.of(root);
+        return withinScope(outer.getElementsById(id));
+    }
+
+    @Override
+    public List<Component> findElementsById(String id) {
+        if (isReady()) return getElementsById(id);
+
+        List<Component> cached = earlyLookups.get(id);
+        if (cached != null) return cached;
+
+        List<Component> found = searchLiveTree(id);
+        if (!found.isEmpty()) earlyLookups.put(id, found);
+        return found;
+    }
+
+    @Override
+    public CompletableFuture<List<Component>> findElementsByIdAsync(String id) {
+        CompletableFuture<Void> loadAction = (CompletableFuture<Void>) getLoadAction();
+        if (loadAction == null || isReady()) return CompletableFuture.completedFuture(getElementsById(id));
+
+        if (SwingUtilities.isEventDispatchThread()) {
+            List<Component> found = findElementsById(id);
+            if (!found.isEmpty()) return CompletableFuture.completedFuture(found);
+        }
+        return loadAction.thenApply(ignored -> getElementsById(id));
+    }
+
+    @Override
+    public Future<Void> getLoadAction() {
+        AbstractDomElementLoader<?> outer = enclosingIndex();
+        if (outer != null && outer.loadDomList != null) return outer.loadDomList;
+        return loadDomList;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <C extends Component> C[] getElementsByType(Class<C> type) {
+        AbstractDomElementLoader<?> outer = enclosingIndex();
+        if (outer == null) return (C[]) currentIndex().getByType(type);
+
+        C[] components = outer.getElementsByType(type);
+        int inside = 0;
+        for (C component : components) {
+            if (isInScope(component)) inside++;
+        }
+        if (inside == components.length) return components;
+
+        C[] scopedComponents = (C[]) Array.newInstance(type, inside);
+        int position = 0;
+        for (C component : components) {
+            if (isInScope(component)) scopedComponents[position++] = component;
+        }
+        return scopedComponents;
+    }
+
+    @Override
+    public List<Component> querySelectorAll(String selector) {
+        return Selector.compile(selector).selectAll(selectorIndex);
+    }
+
+    @Override
+    public Component querySelector(String selector) {
+        return Selector.compile(selector).selectFirst(selectorIndex);
+    }
+
+    @Override
+    public ElementSubscription onElementAttached(String id, Consumer<Component> listener) {
+        ElementSubscription subscription = subscribe(attachListeners, id, listener);
+        synchronized (scopeLock) {
+            AbstractDomElementLoader<?> outer = enclosingIndex();
+            if (outer != null) bridge(outer, id);
+        }
+        if (isInitialized()) {
+            for (Component component : getElementsById(id)) {
+                dispatch(listener, component);
+            }
+        }
+        return subscription;
+    }
+
+    @Override
+    public ElementSubscription onElementDetached(String id, Consumer<Component> listener) {
+        ElementSubscription subscription = subscribe(detachListeners, id, listener);
+        synchronized (scopeLock) {
+            AbstractDomElementLoader<?> outer = enclosingIndex();
+            if (outer != null) bridge(outer, id);
+        }
+        return subscription;
+    }
+
+    /**
+     * Revalida se a raiz está dentro de outra raiz que já mantém um índice e troca de índice quando necessário:
+     * ao entrar em uma raiz indexada o índice próprio é descartado; ao sair dela a subárvore volta a ser indexada,
+     * se já tiver sido carregada. As inscrições existentes são encaminhadas para o novo índice.
+     *
+     * <p>Deve ser chamado na Event Dispatch Thread, do painel externo para os internos, quando a raiz é anexada
+     * ou removida da hierarquia.
+     */
+    @Override
+    public void updateScope() {
+        if (!scoped) return;
+
+        boolean reindex;
+        synchronized (scopeLock) {
+            AbstractDomElementLoader<?> outer = findEnclosingOwner();
+            if (outer == enclosing) return;
+
+            enclosing = outer;
+            releaseBridges();
+            if (outer != null) {
+                if (ownIndex) releaseOwnIndex();
+                for (String id : attachListeners.keySet()) bridge(outer, id);
+                for (String id : detachListeners.keySet()) bridge(outer, id);
+                reindex = false;
+            } else {
+                reindex = !ownIndex && loadDomList != null;
+            }
+        }
+
+        if (reindex) {
+            registerOwnIndex();
+            this.loadDomList = loadDomView();
+        }
+    }
+
+    private void bridge(AbstractDomElementLoader<?> outer, String id) {
+        bridges.computeIfAbsent(id, key -> new ScopeBridge(outer, key));
+    }
+
+    private void releaseBridges() {
+        bridges.values().forEach(ScopeBridge::release);
+        bridges.clear();
+    }
+
+    private static void deliver(List<Consumer<Component>> listeners, Component component) {
+        if (listeners == null) return;
+        for (Consumer<Component> listener : listeners) {
+            try {
+                listener.accept(component);
+            } catch (Exception ignored) {}
+        }
+    }
+
+    private static ElementSubscription subscribe(Map<String, List<Consumer<Component>>> listeners, String id, Consumer<Component> listener) {
+        listeners.computeIfAbsent(id, k -> new CopyOnWriteArrayList<>()).add(listener);
+        return () -> listeners.computeIfPresent(id, (k, current) -> {
+            current.remove(listener);
+            return current.isEmpty() ? null : current;
+        });
+    }
+
+    /**
+     * Compara os snapshots anterior e atual apenas nos nomes com inscrições e notifica os componentes
+     * que entraram ou saíram de cada lista.
+     */
+    private void notifySubscribers(DomIndex previous, DomIndex current, Set<String> touchedNames) {
+        if (previous == current || (attachListeners.isEmpty() && detachListeners.isEmpty())) return;
+
+        Set<String> ids = new HashSet<>(attachListeners.keySet());
+        ids.addAll(detachListeners.keySet());
+        for (String id : ids) {
+            if (touchedNames != null && !touchedNames.contains(id)) continue;
+
+            List<Component> before = previous.getByName(id);
+            List<Component> after = current.getByName(id);
+            if (before == after) continue;
+
+            List<Consumer<Component>> attached = attachListeners.getOrDefault(id, Collections.emptyList());
+            for (Component component : after) {
+                if (!before.contains(component)) {
+                    for (Consumer<Component> listener : attached) dispatch(listener, component);
+                }
+            }
+
+            List<Consumer<Component>> detached = detachListeners.getOrDefault(id, Collections.emptyList());
+            for (Component component : before) {
+                if (!after.contains(component)) {
+                    for (Consumer<Component> listener : detached) dispatch(listener, component);
+                }
+            }
+        }
+    }
+
+    private static void dispatch(Consumer<Component> listener, Component component) {
+        Runnable notification = () -> {
+            try {
+                listener.accept(component);
+            } catch (Exception ignored) {}
+        };
+        if (SwingUtilities.isEventDispatchThread()) notification.run();
+        else SwingUtilities.invokeLater(notification);
+    }
+
+    /**
+     * Retorna o carregador da raiz externa cujo índice cobre esta raiz, ou {@code null} se este carregador
+     * mantém o próprio índice. Apenas lê o escopo definido pelo último {@link #updateScope()}.
+     */
+    private AbstractDomElementLoader<?> enclosingIndex() {
+        AbstractDomElementLoader<?> outer = enclosing;
+        return (outer != null && outer.ownIndex) ? outer : null;
+    }
+
+    private AbstractDomElementLoader<?> findEnclosingOwner() {
+        for (Container parent = root.getParent(); parent != null; parent = parent.getParent()) {
+            WeakReference<AbstractDomElementLoader<?>> reference = indexOwners.get(parent);
+            AbstractDomElementLoader<?> owner = (reference != null) ? reference.get() : null;
+            if (owner != null && owner != this && owner.ownIndex) return owner;
+        }
+        return null;
+    }
+
+    private void registerOwnIndex() {
+        if (ownIndex) return;
+        ownIndex = true;
+        indexOwners.put(root, new WeakReference<>(this));
+    }
+
+    private void releaseOwnIndex() {
+        ownIndex = false;
+        indexOwners.remove(root);
+        unwatchAll();
+        synchronized (writeLock) {
+            index = DomIndex.EMPTY;
+            earlyLookups.clear();
+        }
+    }
+
+    private boolean isInScope(Component component) {
+        return component != root && SwingUtilities.isDescendingFrom(component, root);
+    }
+
+    private List<Component> withinScope(List<Component> components) {
+        for (Component component : components) {
+            if (!isInScope(component)) {
+                List<Component> scopedComponents = new ArrayList<>(components.size());
+                for (Component candidate : components) {
+                    if (isInScope(candidate)) scopedComponents.add(candidate);
+                }
+                return List.copyOf(scopedComponents);
+            }
+        }
+        return components;
+    }
+
+    private boolean isReady() {
+        Future<Void> loadAction = getLoadAction();
+        return loadAction instanceof CompletableFuture<Void> future && future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    /**
+     * Busca direcionada na árvore atual pelos componentes com o nome informado, usada enquanto o índice
+     * completo ainda não foi publicado. Chaves geradas para componentes anônimos não são consideradas.
+     */
+    private List<Component> searchLiveTree(String id) {
+        if (ROOT_KEY.equals(id)) return List.of(root);
+
+        Predicate<Component> currentFilter = filter;
+        List<Component> found = new ArrayList<>();
+        Deque<Component> stack = new ArrayDeque<>();
+        pushChildren(root, stack);
+        while (!stack.isEmpty()) {
+            Component component = stack.pop();
+            if (id.equals(component.getName()) && currentFilter.test(component)) found.add(component);
+            pushChildren(component, stack);
+        }
+        return found.isEmpty() ? Collections.emptyList() : List.copyOf(found);
+    }
+
+    private CompletableFuture<Void> loadDomView(){
+        if (executorService.isShutdown() || executorService.isTerminated()) {
+            throw new IllegalStateException("ExecutorService já foi desligado");
+        }
+        if (strategyOf(root) == DomTraversalStrategy.PARALLEL) {
+            return CompletableFuture.runAsync(this::loadParallel, executorService);
+        }
+        if (SwingUtilities.isEventDispatchThread() || !root.isDisplayable()) {
+            loadSequential();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        AtomicBoolean started = new AtomicBoolean(false);
+        Runnable traversal = () -> {
+            if (!started.compareAndSet(false, true)) return;
+            try {
+                loadSequential();
+                future.complete(null);
+            } catch (Throwable error) {
+                future.completeExceptionally(error);
+            }
+        };
+        pendingTraversal = traversal;
+        SwingUtilities.invokeLater(traversal);
+        return future;
+    }
+
+    private void loadSequential(){
+        DomIndexEvent event = new DomIndexEvent();
+        event.begin();
+
+        DomIndex.Builder builder = beginLoad();
+        try {
+            Predicate<Component> loadFilter = filter;
+            collectComponents(root, component -> index(builder, component, loadFilter), true);
+        } finally {
+            finishLoad(builder);
+        }
+
+        commitEvent(event, DomTraversalStrategy.SEQUENTIAL);
+    }
+
+    private void loadParallel(){
+        DomIndexEvent event = new DomIndexEvent();
+        event.begin();
+
+        DomIndex.Builder builder = beginLoad();
+        try {
+            List<CompletableFuture<List<Component>>> futures = new ArrayList<>();
+            for (Component component : root.getComponents()) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    List<Component> collected = new ArrayList<>();
+                    collectComponents(component, collected::add, false);
+                    return collected;
+                }, executorService));
+            }
+
+            Predicate<Component> loadFilter = filter;
+            for (CompletableFuture<List<Component>> future : futures) {
+                for (Component component : future.join()) {
+                    index(builder, component, loadFilter);
+                }
+            }
+        } finally {
+            finishLoad(builder);
+        }
+
+        commitEvent(event, DomTraversalStrategy.PARALLEL);
+    }
+
+    private DomIndex.Builder beginLoad() {
+        Predicate<Component> loadFilter = filterSource.get();
+        ReferenceQueue<Component> loadQueue = DomIndexContext.isWeakReferences() ? new ReferenceQueue<>() : null;
+        synchronized (writeLock) {
+            pendingChanges = new ArrayList<>();
+            filter = loadFilter;
+            loadingQueue = loadQueue;
+        }
+        watch(root);
+
+        DomIndex.Builder builder = DomIndex.EMPTY.toBuilder(loadQueue);
+        builder.addName(ROOT_KEY, root);
+        return builder;
+    }
+
+    private void finishLoad(DomIndex.Builder builder) {
+        DomIndex previous;
+        DomIndex current;
+        synchronized (writeLock) {
+            for (Consumer<DomIndex.Builder> change : pendingChanges) {
+                change.accept(builder);
+            }
+            pendingChanges = null;
+            pendingTraversal = null;
+            earlyLookups.clear();
+            referenceQueue = loadingQueue;
+            previous = index;
+            current = builder.build();
+            index = current;
+        }
+        notifySubscribers(previous, current, null);
+    }
+
+    private void commitEvent(DomIndexEvent event, DomTraversalStrategy strategy) {
+        event.end();
+        if (event.shouldCommit()) {
+            DomIndex current = index;
+            event.window = JfrSupport.windowOf(root);
+            event.root = root.getClass().getName();
+            event.keys = current.getNameCount();
+            event.components = current.getComponentCount();
+            event.strategy = strategy.name();
+            event.commit();
+        }
+    }
+
+    /**
+     * Percorre a subárvore em uma única passada com pilha explícita, registrando os listeners e entregando
+     * ao consumidor todos os componentes, na ordem de exibição.
+     */
+    private void collectComponents(Component start, Consumer<Component> collector, boolean skipStart) {
+        if (start == null) return;
+        Deque<Component> stack = new ArrayDeque<>();
+        if (skipStart) pushChildren(start, stack);
+        else stack.push(start);
+
+        while (!stack.isEmpty()) {
+            Component component = stack.pop();
+            collector.accept(component);
+            watch(component);
+            pushChildren(component, stack);
+        }
+    }
+
+    private void releaseComponents(Component start, Consumer<Component> collector) {
+        if (start == null) return;
+        Deque<Component> stack = new ArrayDeque<>();
+        stack.push(start);
+
+        while (!stack.isEmpty()) {
+            Component component = stack.pop();
+            collector.accept(component);
+            unwatch(component);
+            pushChildren(component, stack);
+        }
+    }
+
+    /**
+     * Indexa o componente por tipo e, se aceito pelo filtro, por nome. O filtro limita apenas o índice por nome:
+     * {@code findAllByType} e os seletores por tipo também enxergam os componentes sem nome.
+     */
+    private static void index(DomIndex.Builder builder, Component component, Predicate<Component> nameFilter) {
+        if (nameFilter.test(component)) builder.addName(DomIndex.keyOf(component, component.getName()), component);
+        builder.addTypes(component);
+    }
+
+    private static void unindex(DomIndex.Builder builder, Component component, Predicate<Component> nameFilter) {
+        if (nameFilter.test(component)) builder.removeName(DomIndex.keyOf(component, component.getName()), component);
+        builder.removeTypes(component);
+    }
+
+    private static void pushChildren(Component component, Deque<Component> stack) {
+        if (component instanceof JMenu menu) {
+            for (int i = menu.getItemCount() - 1; i >= 0; i--) {
+                JMenuItem item = menu.getItem(i);
+                if (item != null) stack.push(item);
+            }
+        }
+
+        if (component instanceof Container container) {
+            Component[] children = container.getComponents();
+            for (int i = children.length - 1; i >= 0; i--) {
+                stack.push(children[i]);
+            }
+        }
+    }
+
+    private void applyChange(Consumer<DomIndex.Builder> change) {
+        DomIndex previous;
+        DomIndex current;
+        DomIndex.Builder builder;
+        synchronized (writeLock) {
+            if (pendingChanges != null) {
+                earlyLookups.clear();
+                pendingChanges.add(change);
+                return;
+            }
+            earlyLookups.clear();
+            builder = index.toBuilder(referenceQueue);
+            change.accept(builder);
+            purgeCollected(builder);
+            previous = index;
+            current = builder.build();
+            index = current;
+        }
+        notifySubscribers(previous, current, builder.getTouchedNames());
+    }
+
+    private DomIndex currentIndex() {
+        ReferenceQueue<Component> queue = referenceQueue;
+        if (queue != null && queue.poll() instanceof DomIndex.ComponentRef ref) {
+            applyChange(builder -> builder.purge(ref));
+        }
+        return index;
+    }
+
+    private void purgeCollected(DomIndex.Builder builder) {
+        ReferenceQueue<Component> queue = referenceQueue;
+        if (queue == null) return;
+        for (Object ref = queue.poll(); ref != null; ref = queue.poll()) {
+            builder.purge((DomIndex.ComponentRef) ref);
+        }
+    }
+
+    private static DomTraversalStrategy strategyOf(Component root) {
+        DomTraversalStrategy strategy = TRAVERSAL_STRATEGY.get(root.getClass());
+        return (strategy != null) ? strategy : DomIndexContext.getTraversalStrategy();
+    }
+
+    private void watch(Component component) {
+        if (!watched.add(component)) return;
+        component.addPropertyChangeListener(NAME_PROPERTY, indexListener);
+        if (component instanceof Container container) {
+            container.addContainerListener(indexListener);
+        }
+        if (component instanceof JMenu menu) {
+            menu.getPopupMenu().addContainerListener(indexListener);
+        }
+    }
+
+    private void unwatch(Component component) {
+        if (!watched.remove(component)) return;
+        release(component);
+    }
+
+    private void unwatchAll() {
+        List<Component> components;
+        synchronized (watched) {
+            components = new ArrayList<>(watched);
+            watched.clear();
+        }
+        for (Component component : components) {
+            release(component);
+        }
+    }
+
+    private void release(Component component) {
+        component.removePropertyChangeListener(NAME_PROPERTY, indexListener);
+        if (component instanceof Container container) {
+            container.removeContainerListener(indexListener);
+        }
+        if (component instanceof JMenu menu) {
+            menu.getPopupMenu().removeContainerListener(indexListener);
+        }
+    }
+
+    private class IndexListener implements ContainerListener, PropertyChangeListener {
+
+        @Override
+        public void componentAdded(ContainerEvent e) {
+            List<Component> added = new ArrayList<>();
+            collectComponents(e.getChild(), added::add, false);
+            Predicate<Component> currentFilter = filter;
+            applyChange(builder -> {
+                for (Component component : added) {
+                    index(builder, component, currentFilter);
+                }
+            });
+        }
+
+        @Override
+        public void componentRemoved(ContainerEvent e) {
+            List<Component> removed = new ArrayList<>();
+            releaseComponents(e.getChild(), removed::add);
+            Predicate<Component> currentFilter = filter;
+            applyChange(builder -> {
+                for (Component component : removed) {
+                    unindex(builder, component, currentFilter);
+                }
+            });
+        }
+
+        @Override
+        public void propertyChange(PropertyChangeEvent evt) {
+            if (!(evt.getSource() instanceof Component component) || component == root) return;
+            String oldKey = DomIndex.keyOf(component, (String) evt.getOldValue());
+            boolean accepted = filter.test(component);
+            String newKey = accepted ? DomIndex.keyOf(component, (String) evt.getNewValue()) : null;
+            applyChange(builder -> {
+                builder.removeName(oldKey, component);
+                if (accepted) builder.addName(newKey, component);
+            });
+        }
+    }
+
+    /**
+     * Inscrição no carregador externo que repassa a este carregador as alterações de um nome dentro da raiz.
+     * É feita diretamente nos listeners externos, sem a entrega inicial dos componentes já presentes, que já
+     * foram notificados pelo índice anterior. Como a remoção é notificada depois que o componente saiu da
+     * árvore, os componentes repassados como anexados são lembrados para que a remoção também seja repassada.
+     */
+    private class ScopeBridge {
+        private final String id;
+        private final Set<Component> members;
+        private final ElementSubscription attached;
+        private final ElementSubscription detached;
+
+        private ScopeBridge(AbstractDomElementLoader<?> outer, String id) {
+            this.id = id;
+            this.members = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+            for (Component component : outer.getElementsById(id)) {
+                if (isInScope(component)) members.add(component);
+            }
+            this.attached = subscribe(outer.attachListeners, id, this::onAttached);
+            this.detached = subscribe(outer.detachListeners, id, this::onDetached);
+        }
+
+        private void onAttached(Component component) {
+            if (!isInScope(component)) return;
+            members.add(component);
+            deliver(attachListeners.get(id), component);
+        }
+
+        private void onDetached(Component component) {
+            if (members.remove(component) || isInScope(component)) deliver(detachListeners.get(id), component);
+        }
+
+        private void release() {
+            attached.unsubscribe();
+            detached.unsubscribe();
+        }
+    }
+
+    private class IndexView implements SelectorIndex {
+
+        @Override
+        public Container getRoot() {
+            return root;
+        }
+
+        @Override
+        public Collection<Component> findByName(String name) {
+            return getElementsById(name);
+        }
+
+        @Override
+        public Collection<Component> findByTypeName(String typeName) {
+            AbstractDomElementLoader<?> outer = enclosingIndex();
+            DomIndex source = (outer != null) ? outer.currentIndex() : currentIndex();
+            List<Component> result = new ArrayList<>();
+            for (Class<?> type : source.getTypes()) {
+                if (typeName.equals(type.getSimpleName()) || typeName.equals(type.getName())) {
+                    Collections.addAll(result, getElementsByType(type.asSubclass(Component.class)));
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public Collection<Component> findAll() {
+            return Arrays.asList(getElementsByType(Component.class));
+        }
+    }
+}
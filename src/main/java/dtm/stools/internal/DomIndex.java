@@ -0,0 +1,295 @@
+package dtm.stools.internal;
+
+import java.awt.*;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Snapshot imutável do índice do DOM, por nome e por tipo.
+ *
+ * <p>Os dois índices são {@link PersistentMap}s: um {@link Builder} altera apenas o caminho das chaves afetadas e
+ * compartilha o restante com o snapshot anterior, de modo que adicionar ou remover um componente custa
+ * {@code O(log n)} por chave e não uma cópia do índice inteiro. Cada tipo guarda o conjunto dos seus componentes
+ * com a ordem de inserção; o array devolvido por {@link #getByType(Class)} é montado na primeira consulta de cada
+ * tipo em cada snapshot e reaproveitado nas seguintes. O snapshot resultante é publicado pelo carregador em um
+ * único campo volátil e a leitura nunca bloqueia.
+ *
+ * <p>No modo padrão os componentes são referenciados diretamente. No modo fraco cada entrada é um
+ * {@link ComponentRef}, registrado na {@link ReferenceQueue} do carregador para remoção posterior, e a leitura
+ * monta o resultado apenas com os componentes ainda vivos.
+ */
+final class DomIndex {
+
+    static final DomIndex EMPTY = new DomIndex(PersistentMap.empty(), PersistentMap.empty(), 0, false);
+
+    private static final ClassValue<Class<?>[]> TYPE_HIERARCHY = new ClassValue<>() {
+        @Override
+        protected Class<?>[] computeValue(Class<?> type) {
+            List<Class<?>> hierarchy = new ArrayList<>();
+            for (Class<?> current = type; current != null && Component.class.isAssignableFrom(current); current = current.getSuperclass()) {
+                hierarchy.add(current);
+            }
+            return hierarchy.toArray(new Class<?>[0]);
+        }
+    };
+
+    private static final ClassValue<Component[]> EMPTY_ARRAYS = new ClassValue<>() {
+        @Override
+        protected Component[] computeValue(Class<?> type) {
+            return (Component[]) Array.newInstance(type, 0);
+        }
+    };
+
+    private final PersistentMap<String, Object> byName;
+    private final PersistentMap<Class<?>, PersistentMap<Object, Long>> byType;
+    private final long sequence;
+    private final boolean weak;
+    private final Map<Class<?>, Component[]> typeArrays;
+    private volatile Set<Class<?>> types;
+
+    private DomIndex(PersistentMap<String, Object> byName, PersistentMap<Class<?>, PersistentMap<Object, Long>> byType,
+                     long sequence, boolean weak) {
+        this.byName = byName;
+        this.byType = byType;
+        this.sequence = sequence;
+        this.weak = weak;
+        this.typeArrays = new ConcurrentHashMap<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    List<Component> getByName(String name) {
+        Object entries = byName.get(name);
+        if (entries == null) return Collections.emptyList();
+        if (entries instanceof ComponentRef[] refs) return List.of(live(refs, Component.class));
+        return (List<Component>) entries;
+    }
+
+    Component[] getByType(Class<?> type) {
+        PersistentMap<Object, Long> entries = byType.get(type);
+        if (entries == null) return EMPTY_ARRAYS.get(type);
+        if (weak) return materialize(entries, type);
+
+        Component[] components = typeArrays.get(type);
+        if (components == null) {
+            components = materialize(entries, type);
+            typeArrays.putIfAbsent(type, components);
+        }
+        return components;
+    }
+
+    Map<String, List<Component>> getNames() {
+        Map<String, List<Component>> names = new LinkedHashMap<>();
+        byName.forEach((name, entries) -> {
+            List<Component> components = getByName(name);
+            if (!components.isEmpty()) names.put(name, components);
+        });
+        return Collections.unmodifiableMap(names);
+    }
+
+    Set<Class<?>> getTypes() {
+        Set<Class<?>> current = types;
+        if (current == null) {
+            Set<Class<?>> collected = new HashSet<>();
+            byType.forEach((type, entries) -> collected.add(type));
+            current = Collections.unmodifiableSet(collected);
+            types = current;
+        }
+        return current;
+    }
+
+    int getNameCount() {
+        return byName.size();
+    }
+
+    int getComponentCount() {
+        return getByType(Component.class).length;
+    }
+
+    Builder toBuilder(ReferenceQueue<Component> queue) {
+        return new Builder(this, queue);
+    }
+
+    static Class<?>[] hierarchyOf(Class<?> type) {
+        return TYPE_HIERARCHY.get(type);
+    }
+
+    static String keyOf(Component component, String name) {
+        if (name == null || name.isBlank()) {
+            return component.getClass().getSimpleName() + "@" + Integer.toHexString(component.hashCode());
+        }
+        return name;
+    }
+
+    /**
+     * Monta o array do tipo na ordem de inserção, ignorando referências fracas já coletadas.
+     */
+    private static Component[] materialize(PersistentMap<Object, Long> entries, Class<?> type) {
+        Object[] keys = new Object[entries.size()];
+        long[] order = new long[entries.size()];
+        int[] position = new int[1];
+        entries.forEach((entry, seq) -> {
+            keys[position[0]] = entry;
+            order[position[0]++] = seq;
+        });
+
+        Integer[] sorted = new Integer[keys.length];
+        for (int i = 0; i < sorted.length; i++) sorted[i] = i;
+        Arrays.sort(sorted, (a, b) -> Long.compare(order[a], order[b]));
+
+        List<Component> components = new ArrayList<>(keys.length);
+        for (Integer i : sorted) {
+            Object entry = keys[i];
+            Component component = (entry instanceof ComponentRef ref) ? ref.get() : (Component) entry;
+            if (component != null) components.add(component);
+        }
+        return components.toArray((Component[]) Array.newInstance(type, components.size()));
+    }
+
+    private static Component[] live(ComponentRef[] refs, Class<?> type) {
+        List<Component> components = new ArrayList<>(refs.length);
+        for (ComponentRef ref : refs) {
+            Component component = ref.get();
+            if (component != null) components.add(component);
+        }
+        return components.toArray((Component[]) Array.newInstance(type, components.size()));
+    }
+
+    /**
+     * Referência fraca a um componente indexado. Guarda a chave de nome (ou o tipo concreto, para entradas
+     * do índice por tipo) para que a entrada possa ser removida depois que o componente for coletado.
+     */
+    static final class ComponentRef extends WeakReference<Component> {
+        private final String key;
+        private final Class<?> type;
+        private final int hash;
+
+        ComponentRef(Component component, String key, ReferenceQueue<Component> queue) {
+            super(component, queue);
+            this.key = key;
+            this.type = component.getClass();
+            this.hash = System.identityHashCode(component);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) return true;
+            if (!(other instanceof ComponentRef ref)) return false;
+            Component component = get();
+            return component != null && component == ref.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Acumula alterações sobre um snapshot. Os nomes afetados são copiados para conjuntos locais e gravados no
+     * mapa persistente em {@link #build()}; os tipos são alterados diretamente nos mapas persistentes, reaproveitando
+     * os nós criados por este builder. Cada builder gera um único snapshot.
+     */
+    static final class Builder {
+        private final DomIndex base;
+        private final ReferenceQueue<Component> queue;
+        private final Map<String, Set<Object>> names;
+        private PersistentMap<Class<?>, PersistentMap<Object, Long>> types;
+        private long sequence;
+        private Object edit;
+
+        private Builder(DomIndex base, ReferenceQueue<Component> queue) {
+            this.base = base;
+            this.queue = queue;
+            this.names = new HashMap<>();
+            this.types = base.byType;
+            this.sequence = base.sequence;
+            this.edit = new Object();
+        }
+
+        void addName(String key, Component component) {
+            names.computeIfAbsent(key, k -> entries(base.byName.get(k))).add(entryOf(component, key, queue));
+        }
+
+        void removeName(String key, Component component) {
+            names.computeIfAbsent(key, k -> entries(base.byName.get(k))).remove(entryOf(component, key, null));
+        }
+
+        void addTypes(Component component) {
+            for (Class<?> type : hierarchyOf(component.getClass())) {
+                Object entry = entryOf(component, null, queue);
+                PersistentMap<Object, Long> entries = typeEntries(type);
+                if (!entries.containsKey(entry)) types = types.put(type, entries.put(entry, sequence++, edit), edit);
+            }
+        }
+
+        void removeTypes(Component component) {
+            for (Class<?> type : hierarchyOf(component.getClass())) {
+                removeType(type, entryOf(component, null, null));
+            }
+        }
+
+        void purge(ComponentRef ref) {
+            if (ref.key != null) {
+                names.computeIfAbsent(ref.key, k -> entries(base.byName.get(k))).remove(ref);
+                return;
+            }
+            for (Class<?> type : hierarchyOf(ref.type)) {
+                removeType(type, ref);
+            }
+        }
+
+        Set<String> getTouchedNames() {
+            return names.keySet();
+        }
+
+        DomIndex build() {
+            if (names.isEmpty() && types == base.byType) return base;
+
+            PersistentMap<String, Object> newNames = base.byName;
+            for (Map.Entry<String, Set<Object>> entry : names.entrySet()) {
+                Set<Object> entries = entry.getValue();
+                if (entries.isEmpty()) newNames = newNames.remove(entry.getKey(), edit);
+                else if (queue != null) newNames = newNames.put(entry.getKey(), entries.toArray(new ComponentRef[0]), edit);
+                else newNames = newNames.put(entry.getKey(), List.copyOf(entries), edit);
+            }
+
+            edit = null;
+            return new DomIndex(newNames, types, sequence, queue != null);
+        }
+
+        private PersistentMap<Object, Long> typeEntries(Class<?> type) {
+            PersistentMap<Object, Long> entries = types.get(type);
+            return (entries != null) ? entries : PersistentMap.empty();
+        }
+
+        private void removeType(Class<?> type, Object entry) {
+            PersistentMap<Object, Long> entries = typeEntries(type);
+            PersistentMap<Object, Long> remaining = entries.remove(entry, edit);
+            if (remaining == entries) return;
+            types = remaining.isEmpty() ? types.remove(type, edit) : types.put(type, remaining, edit);
+        }
+
+        private Object entryOf(Component component, String key, ReferenceQueue<Component> refQueue) {
+            return (queue != null) ? new ComponentRef(component, key, refQueue) : component;
+        }
+
+        private static Set<Object> entries(Object current) {
+            Set<Object> entries = new LinkedHashSet<>();
+            if (current instanceof List<?> list) entries.addAll(list);
+            else if (current instanceof Object[] array) Collections.addAll(entries, array);
+            return entries;
+        }
+    }
+}
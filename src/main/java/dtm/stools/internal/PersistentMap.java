@@ -0,0 +1,310 @@
+package dtm.stools.internal;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * Mapa persistente (hash array mapped trie) usado pelos snapshots do {@link DomIndex}.
+ *
+ * <p>Cada alteração copia apenas o caminho da raiz até a folha afetada, no máximo sete nós de até 32 posições,
+ * e compartilha o restante com a versão anterior; assim um snapshot novo custa {@code O(log32 n)} em vez de
+ * uma cópia completa do mapa. Alterações feitas com o mesmo token de edição ({@code edit}) reaproveitam os nós
+ * criados com esse token, o que permite a um {@link DomIndex.Builder} montar o índice inteiro sem cópias
+ * intermediárias; depois de publicado, nenhum nó do snapshot volta a ser alterado.
+ *
+ * <p>As chaves são comparadas por identidade e, em seguida, por {@link Object#equals(Object)}.
+ *
+ * @param <K> tipo das chaves
+ * @param <V> tipo dos valores
+ */
+final class PersistentMap<K, V> {
+
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(null, 0);
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int UNCHANGED = 0;
+    private static final int REPLACED = 1;
+    private static final int ADDED = 2;
+    private static final int REMOVED = 3;
+
+    private final Node root;
+    private final int size;
+
+    private PersistentMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(Object key) {
+        return (root != null) ? (V) root.find(0, hash(key), key) : null;
+    }
+
+    boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @param edit token de edição do builder, ou {@code null} para sempre copiar os nós alterados
+     * @return o próprio mapa, se nada mudou, ou uma nova versão com a associação
+     */
+    PersistentMap<K, V> put(K key, V value, Object edit) {
+        int[] change = new int[1];
+        Node base = (root != null) ? root : BitmapNode.EMPTY;
+        Node newRoot = base.put(edit, 0, hash(key), key, value, change);
+        if (change[0] == UNCHANGED) return this;
+        return new PersistentMap<>(newRoot, (change[0] == ADDED) ? size + 1 : size);
+    }
+
+    PersistentMap<K, V> remove(Object key, Object edit) {
+        if (root == null) return this;
+        int[] change = new int[1];
+        Node newRoot = root.remove(edit, 0, hash(key), key, change);
+        if (change[0] == UNCHANGED) return this;
+        return (newRoot == null) ? empty() : new PersistentMap<>(newRoot, size - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEach(BiConsumer<? super K, ? super V> action) {
+        if (root != null) root.forEach((BiConsumer<Object, Object>) action);
+    }
+
+    private static int hash(Object key) {
+        return key.hashCode();
+    }
+
+    private static boolean matches(Object stored, Object key) {
+        return stored == key || stored.equals(key);
+    }
+
+    private abstract static class Node {
+        final Object edit;
+
+        Node(Object edit) {
+            this.edit = edit;
+        }
+
+        boolean isEditable(Object token) {
+            return token != null && token == edit;
+        }
+
+        abstract Object find(int shift, int hash, Object key);
+
+        abstract Node put(Object token, int shift, int hash, Object key, Object value, int[] change);
+
+        abstract Node remove(Object token, int shift, int hash, Object key, int[] change);
+
+        abstract void forEach(BiConsumer<Object, Object> action);
+    }
+
+    /**
+     * Nó com até 32 posições indexadas por um bitmap. Cada posição ocupa dois slots: chave e valor, ou
+     * {@code null} e o nó filho.
+     */
+    private static final class BitmapNode extends Node {
+        static final BitmapNode EMPTY = new BitmapNode(null, 0, new Object[0]);
+
+        int bitmap;
+        Object[] array;
+
+        BitmapNode(Object edit, int bitmap, Object[] array) {
+            super(edit);
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key) {
+            int bit = bitOf(hash, shift);
+            if ((bitmap & bit) == 0) return null;
+            int slot = 2 * indexOf(bit);
+            Object stored = array[slot];
+            if (stored == null) return ((Node) array[slot + 1]).find(shift + BITS, hash, key);
+            return matches(stored, key) ? array[slot + 1] : null;
+        }
+
+        @Override
+        Node put(Object token, int shift, int hash, Object key, Object value, int[] change) {
+            int bit = bitOf(hash, shift);
+            int slot = 2 * indexOf(bit);
+
+            if ((bitmap & bit) == 0) {
+                change[0] = ADDED;
+                Object[] grown = new Object[array.length + 2];
+                System.arraycopy(array, 0, grown, 0, slot);
+                grown[slot] = key;
+                grown[slot + 1] = value;
+                System.arraycopy(array, slot, grown, slot + 2, array.length - slot);
+                if (isEditable(token)) {
+                    bitmap |= bit;
+                    array = grown;
+                    return this;
+                }
+                return new BitmapNode(token, bitmap | bit, grown);
+            }
+
+            Object stored = array[slot];
+            Object current = array[slot + 1];
+            if (stored == null) {
+                Node child = ((Node) current).put(token, shift + BITS, hash, key, value, change);
+                return (child == current) ? this : with(token, slot + 1, child);
+            }
+            if (matches(stored, key)) {
+                if (current == value) return this;
+                change[0] = REPLACED;
+                return with(token, slot + 1, value);
+            }
+
+            change[0] = ADDED;
+            Node child = pair(token, shift + BITS, stored, current, hash, key, value);
+            BitmapNode node = with(token, slot + 1, child);
+            node.array[slot] = null;
+            return node;
+        }
+
+        @Override
+        Node remove(Object token, int shift, int hash, Object key, int[] change) {
+            int bit = bitOf(hash, shift);
+            if ((bitmap & bit) == 0) return this;
+            int slot = 2 * indexOf(bit);
+
+            Object stored = array[slot];
+            if (stored == null) {
+                Node current = (Node) array[slot + 1];
+                Node child = current.remove(token, shift + BITS, hash, key, change);
+                if (change[0] == UNCHANGED) return this;
+                if (child != null) return (child == current) ? this : with(token, slot + 1, child);
+            } else if (!matches(stored, key)) {
+                return this;
+            }
+            change[0] = REMOVED;
+
+            if (bitmap == bit) return null;
+            Object[] shrunk = new Object[array.length - 2];
+            System.arraycopy(array, 0, shrunk, 0, slot);
+            System.arraycopy(array, slot + 2, shrunk, slot, array.length - slot - 2);
+            if (isEditable(token)) {
+                bitmap ^= bit;
+                array = shrunk;
+                return this;
+            }
+            return new BitmapNode(token, bitmap ^ bit, shrunk);
+        }
+
+        @Override
+        void forEach(BiConsumer<Object, Object> action) {
+            for (int slot = 0; slot < array.length; slot += 2) {
+                if (array[slot] == null) ((Node) array[slot + 1]).forEach(action);
+                else action.accept(array[slot], array[slot + 1]);
+            }
+        }
+
+        private BitmapNode with(Object token, int slot, Object value) {
+            if (isEditable(token)) {
+                array[slot] = value;
+                return this;
+            }
+            Object[] copy = array.clone();
+            copy[slot] = value;
+            return new BitmapNode(token, bitmap, copy);
+        }
+
+        private int indexOf(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private static int bitOf(int hash, int shift) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+
+        private static Node pair(Object token, int shift, Object key1, Object value1, int hash2, Object key2, Object value2) {
+            int hash1 = hash(key1);
+            if (hash1 == hash2) return new CollisionNode(token, hash1, new Object[]{key1, value1, key2, value2});
+            int[] ignored = new int[1];
+            return EMPTY.put(token, shift, hash1, key1, value1, ignored).put(token, shift, hash2, key2, value2, ignored);
+        }
+    }
+
+    /**
+     * Nó para chaves distintas com o mesmo hash completo.
+     */
+    private static final class CollisionNode extends Node {
+        final int hash;
+        final Object[] array;
+
+        CollisionNode(Object edit, int hash, Object[] array) {
+            super(edit);
+            this.hash = hash;
+            this.array = array;
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key) {
+            int slot = slotOf(key);
+            return (slot < 0) ? null : array[slot + 1];
+        }
+
+        @Override
+        Node put(Object token, int shift, int hash, Object key, Object value, int[] change) {
+            if (hash != this.hash) {
+                BitmapNode parent = new BitmapNode(token, BitmapNode.bitOf(this.hash, shift), new Object[]{null, this});
+                return parent.put(token, shift, hash, key, value, change);
+            }
+
+            int slot = slotOf(key);
+            if (slot >= 0) {
+                if (array[slot + 1] == value) return this;
+                change[0] = REPLACED;
+                Object[] copy = array.clone();
+                copy[slot + 1] = value;
+                return new CollisionNode(token, hash, copy);
+            }
+
+            change[0] = ADDED;
+            Object[] grown = Arrays.copyOf(array, array.length + 2);
+            grown[array.length] = key;
+            grown[array.length + 1] = value;
+            return new CollisionNode(token, hash, grown);
+        }
+
+        @Override
+        Node remove(Object token, int shift, int hash, Object key, int[] change) {
+            int slot = slotOf(key);
+            if (slot < 0) return this;
+            change[0] = REMOVED;
+            if (array.length == 2) return null;
+
+            Object[] shrunk = new Object[array.length - 2];
+            System.arraycopy(array, 0, shrunk, 0, slot);
+            System.arraycopy(array, slot + 2, shrunk, slot, array.length - slot - 2);
+            return new CollisionNode(token, hash, shrunk);
+        }
+
+        @Override
+        void forEach(BiConsumer<Object, Object> action) {
+            for (int slot = 0; slot < array.length; slot += 2) {
+                action.accept(array[slot], array[slot + 1]);
+            }
+        }
+
+        private int slotOf(Object key) {
+            for (int slot = 0; slot < array.length; slot += 2) {
+                if (matches(array[slot], key)) return slot;
+            }
+            return -1;
+        }
+    }
+}
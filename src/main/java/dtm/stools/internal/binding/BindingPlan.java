@@ -0,0 +1,196 @@
+package dtm.stools.internal.binding;
+
+import dtm.stools.context.ControllerBinder;
+import dtm.stools.context.ElementSubscription;
+import dtm.stools.context.IWindow;
+import dtm.stools.context.Ref;
+import dtm.stools.context.annotations.ClientRef;
+import dtm.stools.context.annotations.ViewRef;
+import dtm.stools.exceptions.FieldBindingInjectionTypeException;
+
+import java.awt.Component;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Plano de injeção dos campos {@code @ViewRef} e {@code @ClientRef} de uma classe de controller.
+ *
+ * <p>O plano é calculado uma única vez por classe e guardado em um {@link ClassValue}: a hierarquia é
+ * percorrida apenas nessa ocasião, somente os campos anotados são mantidos, os nomes de referência já
+ * ficam resolvidos e cada campo recebe um {@link MethodHandle} de escrita. A aplicação do plano é um
+ * laço simples sobre esses campos, na thread chamadora.
+ *
+ * <p>Campos {@link Ref} recebem uma referência resolvida no primeiro acesso e campos {@code @ViewRef(lazy = true)}
+ * são preenchidos quando o componente é anexado ao índice, de modo que nenhum dos dois consulta o DOM durante o binding.
+ * As inscrições dos campos {@code lazy} são entregues ao chamador para serem canceladas com o controller.
+ *
+ * <p>Se o processador de anotações tiver gerado um {@link ControllerBinder} para a classe, ele é usado no lugar
+ * dos campos resolvidos por reflexão.
+ */
+public final class BindingPlan {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<BindingPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected BindingPlan computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private final ControllerBinder binder;
+    private final FieldBinding[] bindings;
+
+    private BindingPlan(ControllerBinder binder, FieldBinding[] bindings) {
+        this.binder = binder;
+        this.bindings = bindings;
+    }
+
+    public static BindingPlan of(Class<?> controllerClass) {
+        return PLANS.get(controllerClass);
+    }
+
+    public int size() {
+        return (binder != null) ? binder.size() : bindings.length;
+    }
+
+    public boolean isGenerated() {
+        return binder != null;
+    }
+
+    public void apply(Object controller, IWindow window, Consumer<? super ElementSubscription> subscriptions) {
+        if (binder != null) {
+            try {
+                binder.bind(controller, window, subscriptions);
+            } catch (RuntimeException e) {
+                throw new RuntimeException("Erro no binding dos campos", e);
+            }
+            return;
+        }
+        for (FieldBinding binding : bindings) {
+            binding.apply(controller, window, subscriptions);
+        }
+    }
+
+    private static BindingPlan compile(Class<?> type) {
+        ControllerBinder binder = generatedBinder(type);
+        if (binder != null) return new BindingPlan(binder, new FieldBinding[0]);
+
+        List<FieldBinding> bindings = new ArrayList<>();
+        for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                int mods = field.getModifiers();
+                if (Modifier.isStatic(mods) || Modifier.isTransient(mods)) continue;
+
+                ViewRef viewRef = field.getAnnotation(ViewRef.class);
+                if (viewRef != null) {
+                    Mode mode = Ref.class == field.getType() ? Mode.REF : viewRef.lazy() ? Mode.LAZY_VIEW : Mode.VIEW;
+                    bindings.add(new FieldBinding(field, refName(viewRef.value(), field), mode));
+                    continue;
+                }
+
+                ClientRef clientRef = field.getAnnotation(ClientRef.class);
+                if (clientRef != null) {
+                    bindings.add(new FieldBinding(field, refName(clientRef.value(), field), Mode.CLIENT));
+                }
+            }
+        }
+        return new BindingPlan(null, bindings.toArray(new FieldBinding[0]));
+    }
+
+    private static ControllerBinder generatedBinder(Class<?> type) {
+        try {
+            Class<?> binderClass = Class.forName(type.getName() + ControllerBinder.SUFFIX, true, type.getClassLoader());
+            if (!ControllerBinder.class.isAssignableFrom(binderClass)) return null;
+            return (ControllerBinder) binderClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static String refName(String value, Field field) {
+        return (value != null && !value.isEmpty()) ? value : field.getName();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Component> refType(Field field) {
+        Type generic = field.getGenericType();
+        if (generic instanceof ParameterizedType parameterized) {
+            Type argument = parameterized.getActualTypeArguments()[0];
+            if (argument instanceof ParameterizedType nested) argument = nested.getRawType();
+            if (argument instanceof Class<?> type && Component.class.isAssignableFrom(type)) return (Class<? extends Component>) type;
+        }
+        return Component.class;
+    }
+
+    private static Class<?> boxed(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    private enum Mode { VIEW, LAZY_VIEW, REF, CLIENT }
+
+    private static final class FieldBinding {
+        private final String fieldName;
+        private final String refName;
+        private final Mode mode;
+        private final Class<?> fieldType;
+        private final Class<? extends Component> componentType;
+        private final Class<?> checkType;
+        private final MethodHandle setter;
+
+        private FieldBinding(Field field, String refName, Mode mode) {
+            this.fieldName = field.getName();
+            this.refName = refName;
+            this.mode = mode;
+            this.fieldType = field.getType();
+            this.componentType = (mode == Mode.REF) ? refType(field) : Component.class;
+            this.checkType = boxed(fieldType);
+            try {
+                field.setAccessible(true);
+                this.setter = MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+            } catch (IllegalAccessException | RuntimeException e) {
+                throw new RuntimeException("Falha de acesso ao campo '" + fieldName + "'", e);
+            }
+        }
+
+        private void apply(Object controller, IWindow window, Consumer<? super ElementSubscription> subscriptions) {
+            try {
+                if (mode == Mode.LAZY_VIEW) {
+                    subscriptions.accept(ControllerBinder.bindOnAttach(window, refName, fieldType, component -> assign(controller, component)));
+                    return;
+                }
+
+                Object value = switch (mode) {
+                    case REF -> Ref.of(window, refName, componentType);
+                    case CLIENT -> window.getFromClient(refName, null);
+                    default -> window.findById(refName);
+                };
+                assign(controller, value);
+            } catch (RuntimeException e) {
+                throw new RuntimeException("Erro inesperado ao injetar valor no campo '" + fieldName + "'", e);
+            }
+        }
+
+        private void assign(Object controller, Object value) {
+            if (value != null && !checkType.isInstance(value)) {
+                throw new FieldBindingInjectionTypeException(fieldName, fieldType, value.getClass(), value);
+            }
+
+            try {
+                setter.invokeExact(controller, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException("Falha de acesso ao campo '" + fieldName + "'", e);
+            }
+        }
+    }
+}
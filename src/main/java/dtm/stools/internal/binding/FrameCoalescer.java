@@ -0,0 +1,57 @@
+package dtm.stools.internal.binding;
+
+import javax.swing.*;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Agrupa atualizações destinadas à Event Dispatch Thread e as aplica no máximo uma vez por quadro.
+ *
+ * <p>Cada atualização é registrada sob uma chave; enquanto o quadro não é descarregado, uma nova atualização
+ * para a mesma chave substitui a anterior, de modo que apenas o valor mais recente chega ao componente.
+ * O descarregamento é feito por um único {@link Timer} compartilhado, iniciado somente quando há pendências.
+ */
+public final class FrameCoalescer {
+
+    private static final int FRAME_MILLIS = 16;
+
+    private static final Map<Object, Runnable> pending = new ConcurrentHashMap<>();
+    private static final AtomicBoolean scheduled = new AtomicBoolean();
+    private static final Timer timer = createTimer();
+
+    private FrameCoalescer() {}
+
+    public static void submit(Object key, Runnable update) {
+        pending.put(key, update);
+        if (scheduled.compareAndSet(false, true)) {
+            timer.restart();
+        }
+    }
+
+    public static void cancel(Object key) {
+        pending.remove(key);
+    }
+
+    private static Timer createTimer() {
+        Timer frameTimer = new Timer(FRAME_MILLIS, e -> flush());
+        frameTimer.setRepeats(false);
+        frameTimer.setCoalesce(true);
+        return frameTimer;
+    }
+
+    private static void flush() {
+        scheduled.set(false);
+        Iterator<Map.Entry<Object, Runnable>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Object, Runnable> entry = iterator.next();
+            if (!pending.remove(entry.getKey(), entry.getValue())) continue;
+            try {
+                entry.getValue().run();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package dtm.stools.internal.binding;
+
+import dtm.stools.context.Ref;
+import dtm.stools.exceptions.FieldBindingInjectionTypeException;
+
+import java.awt.Component;
+import java.util.function.Supplier;
+
+public final class LazyRef<T extends Component> implements Ref<T> {
+
+    private final String id;
+    private final Class<T> type;
+    private final Supplier<? extends Component> resolver;
+    private volatile T component;
+
+    public LazyRef(String id, Class<T> type, Supplier<? extends Component> resolver) {
+        this.id = id;
+        this.type = type;
+        this.resolver = resolver;
+    }
+
+    @Override
+    public T get() {
+        T current = component;
+        if (current != null) return current;
+
+        synchronized (this) {
+            if (component == null) {
+                Component value = resolver.get();
+                if (value != null && !type.isInstance(value)) {
+                    throw new FieldBindingInjectionTypeException(id, type, value.getClass(), value);
+                }
+                component = type.cast(value);
+            }
+            return component;
+        }
+    }
+
+    @Override
+    public boolean isResolved() {
+        return component != null;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "Ref[" + id + (isResolved() ? " -> " + component.getClass().getSimpleName() : "") + "]";
+    }
+}
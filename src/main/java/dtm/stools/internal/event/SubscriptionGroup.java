@@ -0,0 +1,41 @@
+package dtm.stools.internal.event;
+
+import dtm.stools.context.ElementSubscription;
+import dtm.stools.context.EventBus;
+import dtm.stools.context.EventSubscription;
+import dtm.stools.context.enums.DeliveryPolicy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Assinaturas feitas por um controller, canceladas em conjunto quando a janela ou painel é descartado.
+ * Inclui as inscrições em elementos do DOM ainda pendentes, como as dos campos {@code @ViewRef(lazy = true)}.
+ */
+public final class SubscriptionGroup {
+
+    private final List<EventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final List<ElementSubscription> elementSubscriptions = new CopyOnWriteArrayList<>();
+
+    public <E> EventSubscription subscribe(Class<E> type, DeliveryPolicy policy, Consumer<? super E> handler) {
+        EventSubscription subscription = EventBus.getDefault().subscribe(type, policy, handler);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    public void track(ElementSubscription subscription) {
+        elementSubscriptions.add(subscription);
+    }
+
+    public void unsubscribeAll() {
+        for (EventSubscription subscription : subscriptions) {
+            subscription.unsubscribe();
+        }
+        subscriptions.clear();
+        for (ElementSubscription subscription : elementSubscriptions) {
+            subscription.unsubscribe();
+        }
+        elementSubscriptions.clear();
+    }
+}
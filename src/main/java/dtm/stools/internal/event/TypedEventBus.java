@@ -0,0 +1,197 @@
+package dtm.stools.internal.event;
+
+import dtm.stools.context.EventBus;
+import dtm.stools.context.EventSubscription;
+import dtm.stools.context.WindowExecutorContext;
+import dtm.stools.context.enums.DeliveryPolicy;
+import dtm.stools.context.enums.OverflowStrategy;
+import lombok.NonNull;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Implementação do {@link EventBus} com filas limitadas por assinante.
+ *
+ * <p>A tabela de despacho é montada uma vez por classe de evento (os assinantes compatíveis, na ordem de
+ * assinatura) e reaproveitada até a próxima alteração nas assinaturas, quando a tabela inteira é substituída;
+ * assim, publicar não percorre a hierarquia de tipos nem a lista completa de assinantes. Cada assinante tem uma
+ * fila própria drenada por no máximo uma tarefa por vez, o que preserva a ordem dos eventos sem bloquear quem publica.
+ */
+public final class TypedEventBus implements EventBus {
+
+    public static final TypedEventBus DEFAULT = new TypedEventBus();
+
+    private static final int DRAIN_BATCH = 64;
+    private static final Subscriber<?>[] NO_SUBSCRIBERS = new Subscriber<?>[0];
+    private static final Executor edtExecutor = SwingUtilities::invokeLater;
+    private static final ThreadFactory virtualThreads = Thread.ofVirtual().name("event-bus-", 0).factory();
+    private static final Executor virtualExecutor = command -> virtualThreads.newThread(command).start();
+
+    private final List<Subscriber<?>> subscribers;
+    private volatile Map<Class<?>, Subscriber<?>[]> dispatchTable;
+
+    public TypedEventBus() {
+        this.subscribers = new CopyOnWriteArrayList<>();
+        this.dispatchTable = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void publish(@NonNull Object event) {
+        for (Subscriber<?> subscriber : dispatchTable.computeIfAbsent(event.getClass(), this::compileDispatch)) {
+            subscriber.enqueue(event);
+        }
+    }
+
+    @Override
+    public <E> EventSubscription subscribe(@NonNull Class<E> type, @NonNull DeliveryPolicy policy, int capacity,
+                                           @NonNull OverflowStrategy overflow, @NonNull Consumer<? super E> handler) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacidade da fila deve ser maior que zero");
+
+        Subscriber<E> subscriber = new Subscriber<>(this, type, policy, capacity, overflow, handler);
+        subscribers.add(subscriber);
+        dispatchTable = new ConcurrentHashMap<>();
+        return subscriber;
+    }
+
+    private void remove(Subscriber<?> subscriber) {
+        if (subscribers.remove(subscriber)) dispatchTable = new ConcurrentHashMap<>();
+    }
+
+    private Subscriber<?>[] compileDispatch(Class<?> eventClass) {
+        List<Subscriber<?>> matching = new ArrayList<>();
+        for (Subscriber<?> subscriber : subscribers) {
+            if (subscriber.type.isAssignableFrom(eventClass)) matching.add(subscriber);
+        }
+        return matching.isEmpty() ? NO_SUBSCRIBERS : matching.toArray(NO_SUBSCRIBERS);
+    }
+
+    private static Executor executorOf(DeliveryPolicy policy) {
+        return switch (policy) {
+            case EDT -> edtExecutor;
+            case VIRTUAL_THREAD -> virtualExecutor;
+            case BACKGROUND -> WindowExecutorContext.getProvider().getExecutor();
+        };
+    }
+
+    private static final class Subscriber<E> implements EventSubscription, Runnable {
+        private final TypedEventBus bus;
+        private final Class<E> type;
+        private final DeliveryPolicy policy;
+        private final OverflowStrategy overflow;
+        private final Consumer<? super E> handler;
+        private final BlockingQueue<E> queue;
+        private final AtomicBoolean draining;
+        private final LongAdder dropped;
+        private volatile boolean active;
+
+        private Subscriber(TypedEventBus bus, Class<E> type, DeliveryPolicy policy, int capacity,
+                           OverflowStrategy overflow, Consumer<? super E> handler) {
+            this.bus = bus;
+            this.type = type;
+            this.policy = policy;
+            this.overflow = overflow;
+            this.handler = handler;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.draining = new AtomicBoolean(false);
+            this.dropped = new LongAdder();
+            this.active = true;
+        }
+
+        private void enqueue(Object event) {
+            if (!active) return;
+
+            E typed = type.cast(event);
+            if (!offer(typed)) {
+                dropped.increment();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private boolean offer(E event) {
+            switch (overflow) {
+                case BLOCK -> {
+                    if (SwingUtilities.isEventDispatchThread()) return queue.offer(event);
+                    try {
+                        queue.put(event);
+                        return true;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                }
+                case DROP_OLDEST -> {
+                    while (!queue.offer(event)) {
+                        if (queue.poll() != null) dropped.increment();
+                    }
+                    return true;
+                }
+                default -> {
+                    return queue.offer(event);
+                }
+            }
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) return;
+            try {
+                executorOf(policy).execute(this);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+            }
+        }
+
+        /**
+         * Drena um lote da fila. A marcação de drenagem é liberada no {@code finally}, de modo que um {@link Error}
+         * lançado pelo handler não deixa o assinante sem entregas; os eventos restantes seguem em uma nova drenagem.
+         */
+        @Override
+        public void run() {
+            try {
+                int delivered = 0;
+                E event;
+                while (active && delivered < DRAIN_BATCH && (event = queue.poll()) != null) {
+                    try {
+                        handler.accept(event);
+                    } catch (Exception e) {
+                        e.printStackTrace();
+                    }
+                    delivered++;
+                }
+            } finally {
+                draining.set(false);
+                if (active && !queue.isEmpty()) scheduleDrain();
+            }
+        }
+
+        @Override
+        public void unsubscribe() {
+            active = false;
+            queue.clear();
+            bus.remove(this);
+        }
+
+        @Override
+        public boolean isActive() {
+            return active;
+        }
+
+        @Override
+        public long getDroppedCount() {
+            return dropped.sum();
+        }
+    }
+}
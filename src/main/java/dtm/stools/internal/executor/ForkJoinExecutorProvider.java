@@ -0,0 +1,57 @@
+package dtm.stools.internal.executor;
+
+import dtm.stools.configs.WindowExecutorProvider;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ForkJoinExecutorProvider implements WindowExecutorProvider {
+
+    private final int parallelism;
+    private final AtomicInteger threadCount;
+    private volatile ForkJoinPool pool;
+
+    public ForkJoinExecutorProvider(int parallelism){
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("O paralelismo deve ser maior que 0");
+        }
+        this.parallelism = parallelism;
+        this.threadCount = new AtomicInteger(0);
+    }
+
+    @Override
+    public ExecutorService getExecutor() {
+        ForkJoinPool current = pool;
+        if (current == null) {
+            synchronized (this) {
+                current = pool;
+                if (current == null) {
+                    current = new ForkJoinPool(parallelism, this::newThread, null, true);
+                    pool = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    private ForkJoinWorkerThread newThread(ForkJoinPool forkJoinPool){
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+        thread.setName("stools-window-" + threadCount.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
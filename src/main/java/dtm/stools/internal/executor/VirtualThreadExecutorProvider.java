@@ -0,0 +1,36 @@
+package dtm.stools.internal.executor;
+
+import dtm.stools.configs.WindowExecutorProvider;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class VirtualThreadExecutorProvider implements WindowExecutorProvider {
+
+    private volatile ExecutorService executorService;
+
+    @Override
+    public ExecutorService getExecutor() {
+        ExecutorService current = executorService;
+        if (current == null) {
+            synchronized (this) {
+                current = executorService;
+                if (current == null) {
+                    current = Executors.newThreadPerTaskExecutor(
+                            Thread.ofVirtual().name("stools-window-", 0).factory()
+                    );
+                    executorService = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        if (executorService != null) {
+            executorService.shutdown();
+            executorService = null;
+        }
+    }
+}
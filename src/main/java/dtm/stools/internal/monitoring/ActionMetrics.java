@@ -0,0 +1,131 @@
+package dtm.stools.internal.monitoring;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latência de uma ação, mantido em contadores {@link LongAdder} sem locks.
+ *
+ * <p>Os buckets são log-lineares: cada potência de 2 (em nanossegundos) é dividida em
+ * {@value #SUB_BUCKETS} sub-buckets, o que limita o erro dos percentis a cerca de 25%.
+ */
+public class ActionMetrics {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 48;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT + 1) * SUB_BUCKETS;
+
+    private final String owner;
+    private final String action;
+    private final LongAdder count;
+    private final LongAdder errors;
+    private final LongAdder totalNanos;
+    private final LongAccumulator maxNanos;
+    private final LongAdder[] buckets;
+
+    public ActionMetrics(String owner, String action) {
+        this.owner = owner;
+        this.action = action;
+        this.count = new LongAdder();
+        this.errors = new LongAdder();
+        this.totalNanos = new LongAdder();
+        this.maxNanos = new LongAccumulator(Math::max, 0L);
+        this.buckets = new LongAdder[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long elapsedNanos, boolean failed) {
+        long value = Math.max(elapsedNanos, 1L);
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+        buckets[bucketIndex(value)].increment();
+        if (failed) errors.increment();
+    }
+
+    public void reset() {
+        count.reset();
+        errors.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Calcula os percentis informados a partir de uma única leitura dos buckets.
+     *
+     * @param percentiles percentis entre 0 e 100
+     * @return limite superior, em nanossegundos, do bucket de cada percentil
+     */
+    public long[] getPercentilesNanos(double... percentiles) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+
+        long[] result = new long[percentiles.length];
+        if (total == 0) return result;
+
+        long max = maxNanos.get();
+        for (int p = 0; p < percentiles.length; p++) {
+            long rank = (long) Math.ceil(percentiles[p] / 100.0 * total);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += counts[i];
+                if (seen >= rank && counts[i] > 0) {
+                    result[p] = Math.min(bucketUpperBound(i), max);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int bucketIndex(long value) {
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) return BUCKET_COUNT - 1;
+        int subBucket = (exponent >= SUB_BUCKET_BITS)
+                ? (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1))
+                : (int) (value & (SUB_BUCKETS - 1));
+        return exponent * SUB_BUCKETS + subBucket;
+    }
+
+    private static long bucketUpperBound(int index) {
+        int exponent = index / SUB_BUCKETS;
+        int subBucket = index % SUB_BUCKETS;
+        if (exponent < SUB_BUCKET_BITS) return (1L << exponent) + subBucket;
+        long step = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (subBucket + 1) * step;
+    }
+}
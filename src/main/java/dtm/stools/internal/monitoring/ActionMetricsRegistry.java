@@ -0,0 +1,47 @@
+package dtm.stools.internal.monitoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro das métricas por janela e ação alimentado pelo {@code ActivityWindowExecutor}.
+ */
+public final class ActionMetricsRegistry {
+
+    private static final Map<String, Map<String, ActionMetrics>> metrics = new ConcurrentHashMap<>();
+    private static volatile boolean enabled;
+
+    private ActionMetricsRegistry() {}
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        ActionMetricsRegistry.enabled = enabled;
+    }
+
+    public static void record(String owner, String action, long elapsedNanos, boolean failed) {
+        metrics.computeIfAbsent(owner, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(action, k -> new ActionMetrics(owner, action))
+                .record(elapsedNanos, failed);
+    }
+
+    public static List<ActionMetrics> getMetrics() {
+        List<ActionMetrics> result = new ArrayList<>();
+        for (Map<String, ActionMetrics> actions : metrics.values()) {
+            result.addAll(actions.values());
+        }
+        return result;
+    }
+
+    public static void reset() {
+        for (Map<String, ActionMetrics> actions : metrics.values()) {
+            for (ActionMetrics actionMetrics : actions.values()) {
+                actionMetrics.reset();
+            }
+        }
+    }
+}
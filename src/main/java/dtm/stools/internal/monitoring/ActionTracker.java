@@ -0,0 +1,58 @@
+package dtm.stools.internal.monitoring;
+
+import java.awt.*;
+
+/**
+ * Registra a ação do {@code WindowExecutor} em execução na Event Dispatch Thread.
+ *
+ * <p>Enquanto o rastreamento estiver desabilitado, {@link #enter(String, String)} e
+ * {@link #exit(String)} custam apenas a leitura de um campo volátil.
+ */
+public final class ActionTracker {
+
+    private static final String NOT_TRACKED = new String("");
+
+    private static volatile boolean enabled;
+    private static volatile String currentEdtAction;
+
+    private ActionTracker() {}
+
+    public static void setEnabled(boolean enabled) {
+        ActionTracker.enabled = enabled;
+        if (!enabled) currentEdtAction = null;
+    }
+
+    /**
+     * Marca o início de uma ação.
+     *
+     * @param owner nome da janela dona da ação
+     * @param action nome da ação
+     * @return valor a ser repassado para {@link #exit(String)}
+     */
+    public static String enter(String owner, String action) {
+        if (!enabled || !EventQueue.isDispatchThread()) return NOT_TRACKED;
+        String previous = currentEdtAction;
+        currentEdtAction = owner + "#" + action;
+        return previous;
+    }
+
+    /**
+     * Marca o fim de uma ação, restaurando a ação anterior.
+     *
+     * @param previous valor retornado por {@link #enter(String, String)}
+     */
+    @SuppressWarnings("StringEquality")
+    public static void exit(String previous) {
+        if (previous == NOT_TRACKED) return;
+        currentEdtAction = previous;
+    }
+
+    /**
+     * Retorna a ação atualmente em execução na Event Dispatch Thread.
+     *
+     * @return a ação no formato {@code classe#acao}, ou {@code null} se nenhuma ação estiver em execução
+     */
+    public static String getCurrentEdtAction() {
+        return currentEdtAction;
+    }
+}
@@ -0,0 +1,57 @@
+package dtm.stools.internal.monitoring;
+
+import java.awt.*;
+
+/**
+ * {@link EventQueue} que registra o início de cada despacho para que o watchdog
+ * possa identificar eventos que bloqueiam a Event Dispatch Thread.
+ *
+ * <p>Despachos aninhados (por exemplo, o loop secundário de diálogos modais) zeram o registro
+ * ao terminar, de forma que o evento externo bloqueado pelo diálogo não é reportado. A thread de despacho é
+ * registrada a cada evento, já que o AWT pode encerrar a Event Dispatch Thread ociosa e criar outra.
+ */
+public class MonitoredEventQueue extends EventQueue {
+
+    private volatile long dispatchStart;
+    private volatile long dispatchSequence;
+    private volatile AWTEvent currentEvent;
+    private volatile Thread dispatchThread;
+
+    @Override
+    protected void dispatchEvent(AWTEvent event) {
+        dispatchThread = Thread.currentThread();
+        currentEvent = event;
+        dispatchSequence++;
+        dispatchStart = System.nanoTime();
+        try {
+            super.dispatchEvent(event);
+        } finally {
+            dispatchStart = 0L;
+            currentEvent = null;
+        }
+    }
+
+    public void install() {
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(this);
+    }
+
+    public void uninstall() {
+        pop();
+    }
+
+    public long getDispatchStart() {
+        return dispatchStart;
+    }
+
+    public long getDispatchSequence() {
+        return dispatchSequence;
+    }
+
+    public AWTEvent getDispatchingEvent() {
+        return currentEvent;
+    }
+
+    public Thread getDispatchThread() {
+        return dispatchThread;
+    }
+}
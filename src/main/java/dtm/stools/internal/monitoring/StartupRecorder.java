@@ -0,0 +1,97 @@
+package dtm.stools.internal.monitoring;
+
+import dtm.stools.context.monitoring.StartupPhase;
+import dtm.stools.context.monitoring.StartupReport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Registra as etapas de inicialização de uma única janela.
+ * A instância {@link #DISABLED} apenas executa as etapas, sem medir nada.
+ */
+public class StartupRecorder {
+
+    public static final StartupRecorder DISABLED = new StartupRecorder(null, false);
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final String windowClass;
+    private final boolean enabled;
+    private final long startNanos;
+    private final List<StartupPhase> phases;
+    private final AtomicBoolean painted;
+    private volatile long firstPaintNanos;
+
+    public StartupRecorder(String windowClass) {
+        this(windowClass, true);
+    }
+
+    private StartupRecorder(String windowClass, boolean enabled) {
+        this.windowClass = windowClass;
+        this.enabled = enabled;
+        this.startNanos = System.nanoTime();
+        this.phases = new ArrayList<>();
+        this.painted = new AtomicBoolean(false);
+        this.firstPaintNanos = -1L;
+    }
+
+    public void measure(String phase, Runnable action) {
+        if (!enabled) {
+            action.run();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            addPhase(phase, start, System.nanoTime());
+        }
+    }
+
+    /**
+     * Registra um marco sem duração (por exemplo, a conclusão assíncrona do índice do DOM).
+     *
+     * @param phase nome do marco
+     */
+    public void mark(String phase) {
+        if (!enabled) return;
+        long now = System.nanoTime();
+        addPhase(phase, now, now);
+    }
+
+    public void markFirstPaint() {
+        if (!enabled || !painted.compareAndSet(false, true)) return;
+        firstPaintNanos = System.nanoTime();
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public long getFirstPaintNanos() {
+        return firstPaintNanos;
+    }
+
+    public StartupReport toReport() {
+        List<StartupPhase> copy;
+        synchronized (phases) {
+            copy = new ArrayList<>(phases);
+        }
+        long paint = firstPaintNanos;
+        double timeToFirstPaint = (paint < 0) ? -1 : (paint - startNanos) / NANOS_PER_MILLI;
+        return new StartupReport(windowClass, copy, timeToFirstPaint);
+    }
+
+    private void addPhase(String phase, long start, long end) {
+        StartupPhase startupPhase = new StartupPhase(
+                phase,
+                (start - startNanos) / NANOS_PER_MILLI,
+                (end - start) / NANOS_PER_MILLI
+        );
+        synchronized (phases) {
+            phases.add(startupPhase);
+        }
+    }
+}
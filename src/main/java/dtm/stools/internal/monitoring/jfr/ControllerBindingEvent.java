@@ -0,0 +1,20 @@
+package dtm.stools.internal.monitoring.jfr;
+
+import jdk.jfr.*;
+
+@Name("dtm.stools.ControllerBinding")
+@Label("Controller Binding")
+@Category({"SwingTools", "Controller"})
+@Description("Injeção dos campos @ViewRef e @ClientRef de um controller")
+@StackTrace(false)
+public class ControllerBindingEvent extends Event {
+
+    @Label("Window")
+    public String window;
+
+    @Label("Controller")
+    public String controller;
+
+    @Label("Fields")
+    public int fields;
+}
@@ -0,0 +1,20 @@
+package dtm.stools.internal.monitoring.jfr;
+
+import jdk.jfr.*;
+
+@Name("dtm.stools.DirectoryListing")
+@Label("Directory Listing")
+@Category({"SwingTools", "File Picker"})
+@Description("Listagem de um diretório pelo FilePickerInputPanel")
+@StackTrace(false)
+public class DirectoryListingEvent extends Event {
+
+    @Label("Window")
+    public String window;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Entries")
+    public int entries;
+}
@@ -0,0 +1,26 @@
+package dtm.stools.internal.monitoring.jfr;
+
+import jdk.jfr.*;
+
+@Name("dtm.stools.DomIndex")
+@Label("DOM Index")
+@Category({"SwingTools", "DOM"})
+@Description("Indexação dos componentes de uma janela ou painel pelo DomElementLoader")
+@StackTrace(false)
+public class DomIndexEvent extends Event {
+
+    @Label("Window")
+    public String window;
+
+    @Label("Root")
+    public String root;
+
+    @Label("Components")
+    public int components;
+
+    @Label("Keys")
+    public int keys;
+
+    @Label("Strategy")
+    public String strategy;
+}
@@ -0,0 +1,26 @@
+package dtm.stools.internal.monitoring.jfr;
+
+import jdk.jfr.*;
+
+@Name("dtm.stools.GridRefresh")
+@Label("Grid Refresh")
+@Category({"SwingTools", "Grid"})
+@Description("Atualização dos dados exibidos por um GridViewTable")
+@StackTrace(false)
+public class GridRefreshEvent extends Event {
+
+    @Label("Window")
+    public String window;
+
+    @Label("Model Class")
+    public String modelClass;
+
+    @Label("Total Items")
+    public int totalItems;
+
+    @Label("Page Items")
+    public int pageItems;
+
+    @Label("Page")
+    public int page;
+}
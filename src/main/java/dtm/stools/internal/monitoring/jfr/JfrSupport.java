@@ -0,0 +1,22 @@
+package dtm.stools.internal.monitoring.jfr;
+
+import javax.swing.*;
+import java.awt.*;
+
+public final class JfrSupport {
+
+    private JfrSupport() {}
+
+    /**
+     * Retorna o nome da classe da janela que contém o componente.
+     * Deve ser chamado apenas quando o evento for efetivamente registrado.
+     *
+     * @param component componente de origem
+     * @return nome da classe da janela, ou {@code null} se o componente não estiver em uma janela
+     */
+    public static String windowOf(Component component) {
+        if (component == null) return null;
+        Window window = (component instanceof Window w) ? w : SwingUtilities.getWindowAncestor(component);
+        return (window != null) ? window.getClass().getName() : null;
+    }
+}
@@ -0,0 +1,17 @@
+package dtm.stools.internal.monitoring.jfr;
+
+import jdk.jfr.*;
+
+@Name("dtm.stools.NotificationRearrange")
+@Label("Notification Rearrange")
+@Category({"SwingTools", "Notification"})
+@Description("Reposicionamento das notificações visíveis pelo NotificationManager")
+@StackTrace(false)
+public class NotificationRearrangeEvent extends Event {
+
+    @Label("Notifications")
+    public int notifications;
+
+    @Label("Locations")
+    public int locations;
+}
@@ -0,0 +1,23 @@
+package dtm.stools.internal.monitoring.jfr;
+
+import jdk.jfr.*;
+
+@Name("dtm.stools.SearchQuery")
+@Label("Search Query")
+@Category({"SwingTools", "Input"})
+@Description("Consulta de sugestões executada por um SearchTextField")
+@StackTrace(false)
+public class SearchQueryEvent extends Event {
+
+    @Label("Window")
+    public String window;
+
+    @Label("Query Length")
+    public int queryLength;
+
+    @Label("Candidates")
+    public int candidates;
+
+    @Label("Results")
+    public int results;
+}
@@ -0,0 +1,63 @@
+package dtm.stools.internal.selector;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Sequência de seletores simples ligados por combinadores de descendente ({@code " "}) ou filho ({@code ">"}).
+ *
+ * <p>A avaliação parte do seletor mais à direita, cujos candidatos vêm do índice (por nome, por tipo
+ * ou todos), e confirma os demais subindo pela cadeia de pais até a raiz indexada.
+ */
+public final class ComplexSelector {
+
+    enum Combinator {
+        DESCENDANT, CHILD
+    }
+
+    private final CompoundSelector[] compounds;
+    private final Combinator[] combinators;
+
+    ComplexSelector(List<CompoundSelector> compounds, List<Combinator> combinators) {
+        this.compounds = compounds.toArray(new CompoundSelector[0]);
+        this.combinators = combinators.toArray(new Combinator[0]);
+    }
+
+    Collection<Component> candidates(SelectorIndex index) {
+        CompoundSelector subject = compounds[compounds.length - 1];
+        if (subject.getName() != null) return index.findByName(subject.getName());
+        if (subject.getTypeName() != null) return index.findByTypeName(subject.getTypeName());
+        return index.findAll();
+    }
+
+    boolean matches(Component component, Container root) {
+        int last = compounds.length - 1;
+        return compounds[last].matches(component) && matchesAncestors(component, last, root);
+    }
+
+    private boolean matchesAncestors(Component component, int index, Container root) {
+        if (index == 0) return true;
+        if (component == root) return false;
+
+        CompoundSelector expected = compounds[index - 1];
+        Component parent = parentOf(component);
+
+        if (combinators[index - 1] == Combinator.CHILD) {
+            return parent != null && expected.matches(parent) && matchesAncestors(parent, index - 1, root);
+        }
+
+        for (Component ancestor = parent; ancestor != null; ancestor = (ancestor == root) ? null : parentOf(ancestor)) {
+            if (expected.matches(ancestor) && matchesAncestors(ancestor, index - 1, root)) return true;
+        }
+        return false;
+    }
+
+    private static Component parentOf(Component component) {
+        if (component instanceof JPopupMenu popupMenu && popupMenu.getInvoker() != null) {
+            return popupMenu.getInvoker();
+        }
+        return component.getParent();
+    }
+}
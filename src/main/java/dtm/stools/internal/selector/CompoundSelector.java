@@ -0,0 +1,77 @@
+package dtm.stools.internal.selector;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Seletor simples composto por tipo, nome e predicados de client property, todos aplicados ao mesmo componente.
+ */
+public final class CompoundSelector {
+
+    private static final ClassValue<Set<String>> TYPE_NAMES = new ClassValue<>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+            Set<String> names = new HashSet<>();
+            for (Class<?> current = type; current != null && Component.class.isAssignableFrom(current); current = current.getSuperclass()) {
+                names.add(current.getSimpleName());
+                names.add(current.getName());
+            }
+            return Set.copyOf(names);
+        }
+    };
+
+    private final String typeName;
+    private final String name;
+    private final List<AttributePredicate> attributes;
+
+    CompoundSelector(String typeName, String name, List<AttributePredicate> attributes) {
+        this.typeName = typeName;
+        this.name = name;
+        this.attributes = List.copyOf(attributes);
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean matches(Component component) {
+        if (component == null) return false;
+        if (name != null && !name.equals(component.getName())) return false;
+        if (typeName != null && !TYPE_NAMES.get(component.getClass()).contains(typeName)) return false;
+        for (AttributePredicate attribute : attributes) {
+            if (!attribute.test(component)) return false;
+        }
+        return true;
+    }
+
+    enum Operator {
+        EXISTS, EQUALS, PREFIX, SUFFIX, CONTAINS
+    }
+
+    record AttributePredicate(String key, Operator operator, String value) {
+
+        boolean test(Component component) {
+            if (!(component instanceof JComponent jComponent)) return false;
+            Object property = jComponent.getClientProperty(key);
+            if (property == null) return false;
+            if (operator == Operator.EXISTS) return true;
+
+            String text = Objects.toString(property);
+            return switch (operator) {
+                case EQUALS -> text.equals(value);
+                case PREFIX -> text.startsWith(value);
+                case SUFFIX -> text.endsWith(value);
+                case CONTAINS -> text.contains(value);
+                default -> true;
+            };
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package dtm.stools.internal.selector;
+
+import java.awt.*;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Seletor compilado, composto por um ou mais seletores separados por vírgula.
+ *
+ * <p>Seletores são compilados uma única vez e mantidos em cache pelo texto de origem.
+ * Sintaxe suportada:
+ * <ul>
+ *     <li>{@code JButton}, {@code javax.swing.JButton} ou {@code *}: tipo do componente, incluindo superclasses;</li>
+ *     <li>{@code #salvar}: nome do componente;</li>
+ *     <li>{@code [chave]}, {@code [chave=valor]}, {@code [chave^=valor]}, {@code [chave$=valor]},
+ *     {@code [chave*=valor]}: client property do {@code JComponent};</li>
+ *     <li>{@code A B} (descendente), {@code A > B} (filho) e {@code A, B} (grupo).</li>
+ * </ul>
+ */
+public final class Selector {
+
+    private static final int MAX_CACHED = 512;
+    private static final Map<String, Selector> cache = new ConcurrentHashMap<>();
+
+    private final String source;
+    private final List<ComplexSelector> selectors;
+
+    Selector(String source, List<ComplexSelector> selectors) {
+        this.source = source;
+        this.selectors = List.copyOf(selectors);
+    }
+
+    public static Selector compile(String source) {
+        Selector selector = cache.get(source);
+        if (selector != null) return selector;
+
+        selector = new SelectorParser(source).parse();
+        if (cache.size() >= MAX_CACHED) cache.clear();
+        cache.put(source, selector);
+        return selector;
+    }
+
+    public List<Component> selectAll(SelectorIndex index) {
+        Container root = index.getRoot();
+        Set<Component> result = new LinkedHashSet<>();
+        for (ComplexSelector selector : selectors) {
+            for (Component candidate : selector.candidates(index)) {
+                if (selector.matches(candidate, root)) result.add(candidate);
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    public Component selectFirst(SelectorIndex index) {
+        Container root = index.getRoot();
+        for (ComplexSelector selector : selectors) {
+            for (Component candidate : selector.candidates(index)) {
+                if (selector.matches(candidate, root)) return candidate;
+            }
+        }
+        return null;
+    }
+
+    public String getSource() {
+        return source;
+    }
+}
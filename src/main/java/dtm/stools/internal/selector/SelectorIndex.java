@@ -0,0 +1,14 @@
+package dtm.stools.internal.selector;
+
+import java.awt.*;
+import java.util.Collection;
+
+/**
+ * Acesso de leitura ao índice do DOM usado na avaliação de seletores.
+ */
+public interface SelectorIndex {
+    Container getRoot();
+    Collection<Component> findByName(String name);
+    Collection<Component> findByTypeName(String typeName);
+    Collection<Component> findAll();
+}
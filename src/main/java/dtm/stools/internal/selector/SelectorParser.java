@@ -0,0 +1,157 @@
+package dtm.stools.internal.selector;
+
+import dtm.stools.exceptions.InvalidSelectorException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class SelectorParser {
+
+    private final String source;
+    private int position;
+
+    SelectorParser(String source) {
+        this.source = source;
+        this.position = 0;
+    }
+
+    Selector parse() {
+        List<ComplexSelector> selectors = new ArrayList<>();
+        skipWhitespace();
+        selectors.add(parseComplex());
+        while (!isEnd()) {
+            expect(',');
+            skipWhitespace();
+            selectors.add(parseComplex());
+        }
+        return new Selector(source, selectors);
+    }
+
+    private ComplexSelector parseComplex() {
+        List<CompoundSelector> compounds = new ArrayList<>();
+        List<ComplexSelector.Combinator> combinators = new ArrayList<>();
+        compounds.add(parseCompound());
+
+        while (true) {
+            boolean whitespace = skipWhitespace();
+            if (isEnd() || peek() == ',') break;
+
+            if (peek() == '>') {
+                position++;
+                skipWhitespace();
+                combinators.add(ComplexSelector.Combinator.CHILD);
+            } else if (whitespace) {
+                combinators.add(ComplexSelector.Combinator.DESCENDANT);
+            } else {
+                throw error("Caractere inesperado '" + peek() + "'");
+            }
+            compounds.add(parseCompound());
+        }
+        return new ComplexSelector(compounds, combinators);
+    }
+
+    private CompoundSelector parseCompound() {
+        int start = position;
+        String typeName = null;
+        String name = null;
+        List<CompoundSelector.AttributePredicate> attributes = new ArrayList<>();
+
+        if (!isEnd() && peek() == '*') {
+            position++;
+        } else if (!isEnd() && isIdentifierChar(peek())) {
+            typeName = readIdentifier();
+        }
+
+        while (!isEnd()) {
+            char current = peek();
+            if (current == '#') {
+                position++;
+                if (name != null) throw error("Nome informado mais de uma vez");
+                name = readIdentifier();
+            } else if (current == '[') {
+                position++;
+                attributes.add(parseAttribute());
+            } else {
+                break;
+            }
+        }
+
+        if (position == start) throw error("Seletor vazio");
+        return new CompoundSelector(typeName, name, attributes);
+    }
+
+    private CompoundSelector.AttributePredicate parseAttribute() {
+        skipWhitespace();
+        String key = readIdentifier();
+        skipWhitespace();
+
+        if (!isEnd() && peek() == ']') {
+            position++;
+            return new CompoundSelector.AttributePredicate(key, CompoundSelector.Operator.EXISTS, null);
+        }
+
+        CompoundSelector.Operator operator = switch (isEnd() ? '\0' : peek()) {
+            case '=' -> CompoundSelector.Operator.EQUALS;
+            case '^' -> CompoundSelector.Operator.PREFIX;
+            case '$' -> CompoundSelector.Operator.SUFFIX;
+            case '*' -> CompoundSelector.Operator.CONTAINS;
+            default -> throw error("Operador de atributo inválido");
+        };
+        position++;
+        if (operator != CompoundSelector.Operator.EQUALS) expect('=');
+
+        skipWhitespace();
+        String value = readValue();
+        skipWhitespace();
+        expect(']');
+        return new CompoundSelector.AttributePredicate(key, operator, value);
+    }
+
+    private String readValue() {
+        if (isEnd()) throw error("Valor de atributo ausente");
+        char quote = peek();
+        if (quote != '"' && quote != '\'') return readIdentifier();
+
+        position++;
+        int start = position;
+        while (!isEnd() && peek() != quote) position++;
+        if (isEnd()) throw error("Aspas não fechadas");
+        String value = source.substring(start, position);
+        position++;
+        return value;
+    }
+
+    private String readIdentifier() {
+        int start = position;
+        while (!isEnd() && isIdentifierChar(peek())) position++;
+        if (position == start) throw error("Identificador esperado");
+        return source.substring(start, position);
+    }
+
+    private boolean skipWhitespace() {
+        int start = position;
+        while (!isEnd() && Character.isWhitespace(peek())) position++;
+        return position > start;
+    }
+
+    private void expect(char expected) {
+        if (isEnd() || peek() != expected) throw error("'" + expected + "' esperado");
+        position++;
+    }
+
+    private boolean isEnd() {
+        return position >= source.length();
+    }
+
+    private char peek() {
+        return source.charAt(position);
+    }
+
+    private static boolean isIdentifierChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.';
+    }
+
+    private InvalidSelectorException error(String message) {
+        return new InvalidSelectorException(message + " na posição " + position + " do seletor '" + source + "'");
+    }
+}
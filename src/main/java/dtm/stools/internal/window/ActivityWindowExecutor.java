@@ -1,46 +1,61 @@
 package dtm.stools.internal.window;
 
 import dtm.stools.context.WindowExecutor;
+import dtm.stools.internal.monitoring.ActionMetricsRegistry;
+import dtm.stools.internal.monitoring.ActionTracker;
 import dtm.stools.models.ThrowableRunnable;
 import dtm.stools.models.ThrowableSupplier;
 import java.util.function.BiConsumer;
 
 public class ActivityWindowExecutor implements WindowExecutor {
 
+    private final String ownerName;
     private final BiConsumer<String, Throwable> onErrorReference;
 
     public ActivityWindowExecutor(BiConsumer<String, Throwable> errorAction){
+        this(null, errorAction);
+    }
+
+    public ActivityWindowExecutor(Class<?> ownerClass, BiConsumer<String, Throwable> errorAction){
+        this.ownerName = (ownerClass != null) ? ownerClass.getName() : "undefined";
         this.onErrorReference = errorAction;
     }
 
     @Override
     public void execute(ThrowableRunnable runnable) {
-        try{
-            runnable.run();
-        }catch (Throwable throwable){
-            callExceptionHandler("undefined", throwable);
-        }
+        execute(runnable, "undefined");
     }
 
     @Override
     public void execute(ThrowableRunnable runnable, String action) {
-        try{
+        execute(() -> {
             runnable.run();
-        }catch (Throwable throwable){
-            callExceptionHandler(action, throwable);
-        }
+            return null;
+        }, action);
     }
 
     @Override
     public <T> T execute(ThrowableSupplier<T> runnable, String action) {
+        String previousAction = ActionTracker.enter(ownerName, action);
+        boolean timed = ActionMetricsRegistry.isEnabled();
+        long start = timed ? System.nanoTime() : 0L;
+        boolean failed = false;
         try{
             return runnable.run();
         }catch (Throwable throwable){
+            failed = true;
             callExceptionHandler(action, throwable);
+        }finally {
+            if (timed) ActionMetricsRegistry.record(ownerName, action, System.nanoTime() - start, failed);
+            ActionTracker.exit(previousAction);
         }
         return null;
     }
 
+    public String getOwnerName() {
+        return ownerName;
+    }
+
     private void callExceptionHandler(String action, Throwable throwable){
         if (onErrorReference != null) {
             onErrorReference.accept(action, throwable);
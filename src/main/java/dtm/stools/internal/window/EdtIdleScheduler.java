@@ -0,0 +1,33 @@
+package dtm.stools.internal.window;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Executa tarefas na Event Dispatch Thread apenas quando a fila de eventos está ociosa.
+ *
+ * <p>Enquanto houver eventos pendentes a tarefa é adiada; após {@value #MAX_DEFERRALS} tentativas
+ * ela é executada de qualquer forma, para não ficar indefinidamente pendente.
+ */
+public final class EdtIdleScheduler {
+
+    private static final int MAX_DEFERRALS = 20;
+    private static final int RETRY_DELAY_MILLIS = 16;
+
+    private EdtIdleScheduler() {}
+
+    public static void schedule(Runnable task) {
+        SwingUtilities.invokeLater(() -> runWhenIdle(task, 0));
+    }
+
+    private static void runWhenIdle(Runnable task, int deferrals) {
+        EventQueue eventQueue = Toolkit.getDefaultToolkit().getSystemEventQueue();
+        if (deferrals < MAX_DEFERRALS && eventQueue.peekEvent() != null) {
+            Timer timer = new Timer(RETRY_DELAY_MILLIS, e -> runWhenIdle(task, deferrals + 1));
+            timer.setRepeats(false);
+            timer.start();
+            return;
+        }
+        task.run();
+    }
+}
@@ -0,0 +1,183 @@
+package dtm.stools.internal.window;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Visão de um executor compartilhado restrita a uma única janela.
+ *
+ * <p>O executor real só é resolvido na primeira submissão. O desligamento afeta apenas
+ * as tarefas submetidas por esta instância, nunca o executor compartilhado.
+ */
+public class WindowExecutorService extends AbstractExecutorService {
+
+    private final Supplier<ExecutorService> delegateSupplier;
+    private final Set<WindowTask> tasks;
+    private final AtomicBoolean shutdown;
+    private final Object terminationLock;
+    private volatile ExecutorService delegate;
+
+    public WindowExecutorService(Supplier<ExecutorService> delegateSupplier){
+        this.delegateSupplier = delegateSupplier;
+        this.tasks = ConcurrentHashMap.newKeySet();
+        this.shutdown = new AtomicBoolean(false);
+        this.terminationLock = new Object();
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        if (shutdown.get()) {
+            throw new RejectedExecutionException("ExecutorService da janela já foi desligado");
+        }
+        WindowTask task = new WindowTask(command);
+        tasks.add(task);
+        try {
+            getDelegate().execute(task);
+        } catch (RejectedExecutionException e) {
+            finish(task);
+            throw e;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown.set(true);
+        signalIfTerminated();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown.set(true);
+        List<Runnable> pending = new ArrayList<>();
+        for (WindowTask task : tasks) {
+            if (task.cancel()) {
+                pending.add(task.command);
+                finish(task);
+            }
+        }
+        signalIfTerminated();
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown.get();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown.get() && tasks.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (terminationLock) {
+            while (!isTerminated()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) return false;
+                TimeUnit.NANOSECONDS.timedWait(terminationLock, remaining);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indica se o executor compartilhado já foi resolvido por esta janela.
+     *
+     * @return {@code true} se alguma tarefa já foi submetida
+     */
+    public boolean isStarted() {
+        return delegate != null;
+    }
+
+    /**
+     * Retorna a quantidade de tarefas desta janela ainda pendentes ou em execução.
+     *
+     * @return número de tarefas ativas
+     */
+    public int getActiveCount() {
+        return tasks.size();
+    }
+
+    private ExecutorService getDelegate() {
+        ExecutorService current = delegate;
+        if (current == null) {
+            synchronized (this) {
+                current = delegate;
+                if (current == null) {
+                    current = delegateSupplier.get();
+                    delegate = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private void finish(WindowTask task) {
+        if (tasks.remove(task)) signalIfTerminated();
+    }
+
+    private void signalIfTerminated() {
+        if (isTerminated()) {
+            synchronized (terminationLock) {
+                terminationLock.notifyAll();
+            }
+        }
+    }
+
+    private final class WindowTask implements Runnable {
+        private static final int NEW = 0;
+        private static final int RUNNING = 1;
+        private static final int DONE = 2;
+        private static final int CANCELLED = 3;
+
+        private final Runnable command;
+        private final AtomicInteger state;
+        private Thread runner;
+
+        private WindowTask(Runnable command) {
+            this.command = command;
+            this.state = new AtomicInteger(NEW);
+        }
+
+        @Override
+        public void run() {
+            if (!state.compareAndSet(NEW, RUNNING)) return;
+            synchronized (this) {
+                runner = Thread.currentThread();
+            }
+            try {
+                command.run();
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                    if (!state.compareAndSet(RUNNING, DONE)) Thread.interrupted();
+                }
+                finish(this);
+            }
+        }
+
+        /**
+         * Cancela a tarefa, interrompendo-a caso já esteja em execução.
+         *
+         * @return {@code true} se a tarefa ainda não havia começado
+         */
+        private boolean cancel() {
+            if (state.compareAndSet(NEW, CANCELLED)) return true;
+            synchronized (this) {
+                if (state.compareAndSet(RUNNING, CANCELLED) && runner != null) {
+                    runner.interrupt();
+                }
+            }
+            return false;
+        }
+    }
+}
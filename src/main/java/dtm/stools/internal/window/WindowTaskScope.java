@@ -0,0 +1,188 @@
+package dtm.stools.internal.window;
+
+import dtm.stools.context.TaskScope;
+import lombok.NonNull;
+
+import javax.swing.*;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class WindowTaskScope implements TaskScope {
+
+    private final Executor executor;
+    private final Set<ScopedTask<?>> tasks;
+    private final AtomicBoolean closed;
+    private final AtomicLong generation;
+    private final LongAdder submitted;
+    private final LongAdder cancelled;
+
+    public WindowTaskScope(Executor executor){
+        this.executor = executor;
+        this.tasks = ConcurrentHashMap.newKeySet();
+        this.closed = new AtomicBoolean(false);
+        this.generation = new AtomicLong(0);
+        this.submitted = new LongAdder();
+        this.cancelled = new LongAdder();
+    }
+
+    @Override
+    public CompletableFuture<Void> run(@NonNull Runnable command) {
+        return supply(() -> {
+            command.run();
+            return null;
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<T> supply(@NonNull Supplier<T> command) {
+        ScopedTask<T> task = new ScopedTask<>(command);
+        submitted.increment();
+        if (closed.get()) {
+            task.cancel(false);
+            return task;
+        }
+
+        tasks.add(task);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            tasks.remove(task);
+            task.completeExceptionally(e);
+        }
+        return task;
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> thenOnEdt(@NonNull CompletableFuture<T> future, @NonNull Consumer<? super T> action) {
+        final long registeredGeneration = generation.get();
+        CompletableFuture<Void> result = new CompletableFuture<>();
+
+        future.whenComplete((value, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            if (!isCurrent(registeredGeneration)) {
+                dropContinuation(result);
+                return;
+            }
+            SwingUtilities.invokeLater(() -> {
+                if (!isCurrent(registeredGeneration)) {
+                    dropContinuation(result);
+                    return;
+                }
+                try {
+                    action.accept(value);
+                    result.complete(null);
+                } catch (Throwable throwable) {
+                    result.completeExceptionally(throwable);
+                }
+            });
+        });
+
+        return result;
+    }
+
+    @Override
+    public void cancelAll() {
+        generation.incrementAndGet();
+        for (ScopedTask<?> task : tasks) {
+            task.cancel(true);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            cancelAll();
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    @Override
+    public int getInFlightCount() {
+        return tasks.size();
+    }
+
+    @Override
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    @Override
+    public long getCancelledCount() {
+        return cancelled.sum();
+    }
+
+    private boolean isCurrent(long registeredGeneration) {
+        return !closed.get() && generation.get() == registeredGeneration;
+    }
+
+    private void dropContinuation(CompletableFuture<Void> continuation) {
+        if (continuation.cancel(false)) cancelled.increment();
+    }
+
+    private final class ScopedTask<T> extends CompletableFuture<T> implements Runnable {
+        private final Supplier<T> command;
+        private Thread runner;
+
+        private ScopedTask(Supplier<T> command) {
+            this.command = command;
+        }
+
+        @Override
+        public void run() {
+            if (isDone()) return;
+            synchronized (this) {
+                runner = Thread.currentThread();
+                // um cancel(true) entre a verificação acima e este bloco não encontrou a thread para interromper
+                if (isDone()) {
+                    runner = null;
+                    tasks.remove(this);
+                    return;
+                }
+            }
+            try {
+                complete(command.get());
+            } catch (Throwable throwable) {
+                completeExceptionally(throwable);
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                    if (isCancelled()) Thread.interrupted();
+                }
+                tasks.remove(this);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean result = super.cancel(mayInterruptIfRunning);
+            if (result) {
+                cancelled.increment();
+                tasks.remove(this);
+                synchronized (this) {
+                    if (mayInterruptIfRunning && runner != null) runner.interrupt();
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public <U> CompletableFuture<U> newIncompleteFuture() {
+            return new CompletableFuture<>();
+        }
+    }
+}